@@ -32,6 +32,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     implementation("org.springframework.boot:spring-boot-starter-security")
     testImplementation("org.springframework.security:spring-security-test")
@@ -43,11 +44,16 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
-    implementation ("org.springframework.boot:spring-boot-starter-quartz")
 
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
+    implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+    implementation("org.apache.lucene:lucene-core:9.12.0")
+    implementation("org.apache.lucene:lucene-analysis-common:9.12.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    testImplementation("org.openjdk.jmh:jmh-core:1.37")
+    testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     testCompileOnly("org.projectlombok:lombok")
@@ -56,4 +62,18 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    // 테스트는 대부분 기본 프로필(dev)로 같은 사용자가 연속 요청하므로 프로필과 관계없이 요청 제한을 끔
+    // (RateLimitFilter 자체는 RateLimitFilterTest에서 설정을 직접 넣어 검증)
+    systemProperty("custom.rate-limit.enabled", "false")
+}
+
+// JMH 벤치마크(@Benchmark)는 src/test 에 두고 JUnit test 태스크와 별도로 ./gradlew benchmark 로 실행한다.
+// 특정 클래스만 돌릴 때는 -Pbenchmark=<클래스 이름 정규식> (예: -Pbenchmark=AuthToken)
+tasks.register<JavaExec>("benchmark") {
+    description = "Runs JMH benchmarks in the test source set."
+    group = "verification"
+    dependsOn(tasks.testClasses)
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args(providers.gradleProperty("benchmark").orNull ?: ".*")
 }
@@ -1,17 +1,18 @@
 package com.tododuk.domain.label.controller;
 
-import com.tododuk.domain.label.entity.Label;
-import com.tododuk.domain.label.service.LabelService;
-import com.tododuk.global.rsData.RsData;
+import com.tododuk.domain.label.service.LabelCatalog;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/labels")
@@ -19,19 +20,26 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:3000")
 public class LabelController {
 
-    private final LabelService LabelService;
+    private final LabelCatalog labelCatalog;
 
-    record LabelResDto(
-            List<Label> labels
+    // 미리 직렬화해 둔 응답을 그대로 내려줌 ({ data: { labels: [...] } } 형태는 동일)
+    // If-None-Match가 현재 ETag와 같으면 본문 없이 304
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getLabels(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
-    }
-
-    @GetMapping
-    public RsData<LabelResDto> getLabels() {
-        List<Label> labels = LabelService.getLabels();
-
-        LabelResDto responseDto = new LabelResDto(labels);
-
-        return new RsData<>("200-1", "라벨 조회를 성공적으로 조회했습니다.", responseDto);
+        String etag = labelCatalog.getETag();
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(labelCatalog.getResponseBody());
     }
 }
@@ -0,0 +1,117 @@
+package com.tododuk.domain.label.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tododuk.domain.label.dto.LabelDto;
+import com.tododuk.domain.label.entity.Label;
+import com.tododuk.domain.label.repository.LabelRepository;
+import com.tododuk.global.rsData.RsData;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 라벨 목록 메모리 캐시 (프로세스 로컬)
+// 스냅샷은 불변이고, 라벨이 바뀌면 새 스냅샷을 만들어 통째로 교체한다 (copy-on-write).
+// 라벨 변경은 모두 LabelService를 거치므로 이 프로세스 안에서는 DB와 같게 유지된다.
+@Component
+@RequiredArgsConstructor
+public class LabelCatalog {
+
+    private final LabelRepository labelRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    // id로 라벨 조회 (배열 읽기만 하고 객체 생성 없음, 없으면 null)
+    public LabelDto get(int id) {
+        LabelDto[] byId = snapshot.byId();
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    public boolean contains(int id) {
+        return get(id) != null;
+    }
+
+    // 전체 라벨 (id 순, 수정 불가)
+    public List<LabelDto> getAll() {
+        return snapshot.labels();
+    }
+
+    // GET /api/labels 응답 본문 (미리 직렬화된 JSON)
+    public byte[] getResponseBody() {
+        return snapshot.responseBody();
+    }
+
+    public String getETag() {
+        return snapshot.etag();
+    }
+
+    // 커밋 이후에 스냅샷 교체 (롤백되면 반영하지 않음)
+    public void put(Label label) {
+        LabelDto labelDto = new LabelDto(label.getId(), label.getName(), label.getColor());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(labelDto);
+                }
+            });
+        } else {
+            apply(labelDto);
+        }
+    }
+
+    // DB에서 전체를 다시 읽어 교체
+    public synchronized void reload() {
+        List<LabelDto> labels = labelRepository.findAll().stream()
+                .map(label -> new LabelDto(label.getId(), label.getName(), label.getColor()))
+                .toList();
+        snapshot = build(labels);
+    }
+
+    private synchronized void apply(LabelDto labelDto) {
+        List<LabelDto> labels = new ArrayList<>(snapshot.labels());
+        labels.removeIf(label -> label.id() == labelDto.id());
+        labels.add(labelDto);
+        snapshot = build(labels);
+    }
+
+    private Snapshot build(List<LabelDto> labels) {
+        List<LabelDto> sorted = labels.stream()
+                .sorted(Comparator.comparingInt(LabelDto::id))
+                .toList();
+
+        // 라벨 id는 시퀀스로 작게 유지되므로 id를 그대로 인덱스로 사용
+        int maxId = sorted.isEmpty() ? -1 : sorted.get(sorted.size() - 1).id();
+        LabelDto[] byId = new LabelDto[maxId + 1];
+        sorted.forEach(label -> byId[label.id()] = label);
+
+        byte[] responseBody;
+        try {
+            responseBody = objectMapper.writeValueAsBytes(
+                    new RsData<>("200-1", "라벨 조회를 성공적으로 조회했습니다.", Map.of("labels", sorted)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("라벨 목록 직렬화 실패", e);
+        }
+
+        String etag = "\"" + DigestUtils.md5DigestAsHex(responseBody) + "\"";
+        return new Snapshot(byId, sorted, responseBody, etag);
+    }
+
+    private record Snapshot(LabelDto[] byId, List<LabelDto> labels, byte[] responseBody, String etag) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.tododuk.domain.label.service;
 
+import com.tododuk.domain.label.dto.LabelDto;
 import com.tododuk.domain.label.entity.Label;
 import com.tododuk.domain.label.repository.LabelRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,20 +14,22 @@ import java.util.List;
 public class LabelService {
 
     private final LabelRepository labelRepository;
+    private final LabelCatalog labelCatalog;
 
     @Transactional(readOnly = true)
     public long countLabels(){
         return labelRepository.count();
     }
 
-    @Transactional(readOnly = true)
-    public List<Label> getLabels(){
-        return labelRepository.findAll();
+    // DB 대신 메모리 카탈로그에서 조회
+    public List<LabelDto> getLabels(){
+        return labelCatalog.getAll();
     }
 
     @Transactional
     public Label createLabel(Label label) {
         labelRepository.save(label);
+        labelCatalog.put(label);
         return label;
     }
 
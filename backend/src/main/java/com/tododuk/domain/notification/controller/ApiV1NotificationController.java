@@ -3,15 +3,19 @@ package com.tododuk.domain.notification.controller;
 import com.tododuk.domain.notification.dto.NotificationDto;
 import com.tododuk.domain.notification.entity.Notification;
 import com.tododuk.domain.notification.service.NotificationService;
-import com.tododuk.domain.user.entity.User;
+import com.tododuk.domain.notification.service.NotificationStreamService;
 import com.tododuk.domain.user.service.UserService;
+import com.tododuk.global.exception.ServiceException;
+import com.tododuk.global.rq.Rq;
 import com.tododuk.global.rsData.RsData;
+import com.tododuk.global.security.Actor;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +26,8 @@ public class ApiV1NotificationController {
 
     private final NotificationService notificationService;
     private final UserService userService;
+    private final NotificationStreamService notificationStreamService;
+    private final Rq rq;
 
     record CreateNotificationReqBody(
             String userEmail,
@@ -100,22 +106,17 @@ public class ApiV1NotificationController {
     }
 
 
-    // 옵션 4: Spring Security의 Authentication 사용 (권장)
+    // 토큰에 담긴 사용자 id로 바로 조회 (이메일로 사용자를 다시 찾지 않음)
     @GetMapping("/me")
     @Transactional
     @Operation(summary = "내 알림 조회")
-    public RsData<List<NotificationDto>> getNotificationByAuth(Authentication authentication) {
-        if (authentication == null || !authentication.isAuthenticated()) {
+    public RsData<List<NotificationDto>> getNotificationByAuth() {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
             return new RsData<>("401-1", "인증이 필요합니다.");
         }
 
-        // 현재 인증된 사용자 정보 가져오기
-        String username = authentication.getName();
-        System.out.println("Authenticated Username: " + username);
-        User user = userService.findByUserEmail(username)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        List<Notification> notifications = notificationService.getNotificationsByUserId(user.getId());
+        List<Notification> notifications = notificationService.getNotificationsByUserId(actor.id());
         if (notifications.isEmpty()) {
             return new RsData<>("404-1", "알림이 존재하지 않습니다.");
         }
@@ -126,4 +127,46 @@ public class ApiV1NotificationController {
 
         return new RsData<>("200-1", "알림이 조회되었습니다.", dtoList);
     }
+
+    record UnreadCountResBody(int unreadCount) {
+    }
+
+    record MarkAllReadResBody(int updatedCount) {
+    }
+
+    @GetMapping("/me/unread-count")
+    @Operation(summary = "내 안 읽은 알림 수 조회")
+    public RsData<UnreadCountResBody> getUnreadCount() {
+        Actor actor = getAuthenticatedActor();
+        return new RsData<>("200-1", "안 읽은 알림 수가 조회되었습니다.",
+                new UnreadCountResBody(notificationService.getUnreadCount(actor.id())));
+    }
+
+    @PutMapping("/me/read-all")
+    @Transactional
+    @Operation(summary = "내 알림 모두 읽음 처리")
+    public RsData<MarkAllReadResBody> markAllRead() {
+        Actor actor = getAuthenticatedActor();
+        return new RsData<>("200-1", "알림을 모두 읽음 처리했습니다.",
+                new MarkAllReadResBody(notificationService.markAllRead(actor.id())));
+    }
+
+    // 새 알림 실시간 수신 (Server-Sent Events)
+    // 재연결 시 브라우저가 보내는 Last-Event-ID 이후 알림을 먼저 다시 보내준다.
+    @GetMapping(value = "/me/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "내 알림 실시간 구독")
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) Integer lastEventId
+    ) {
+        Actor actor = getAuthenticatedActor();
+        return notificationStreamService.subscribe(actor.id(), lastEventId);
+    }
+
+    private Actor getAuthenticatedActor() {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
+            throw new ServiceException("401-1", "인증이 필요합니다.");
+        }
+        return actor;
+    }
 }
@@ -0,0 +1,21 @@
+package com.tododuk.domain.notification.dto;
+
+import com.tododuk.domain.todo.entity.Todo;
+
+// 일괄 생성할 알림 한 건 (수신자 id만 보관)
+public record NotificationDraft(
+        int userId,
+        String title,
+        String description,
+        String url
+) {
+    // 리마인더 알림 내용 (일괄 발송과 단건 발송이 같은 내용/링크를 쓰도록 여기서만 생성)
+    public static NotificationDraft ofReminder(int userId, Todo todo) {
+        return new NotificationDraft(
+                userId,
+                todo.getTitle(),
+                "Reminder for: " + todo.getDescription(),
+                "/api/todo/" + todo.getId()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.tododuk.domain.notification.dto;
+
+import com.tododuk.domain.notification.entity.Notification;
+
+// SSE로 내려주는 알림 (사용자 엔티티 없이 값만)
+public record NotificationStreamDto(
+        int id,
+        int userId,
+        String title,
+        String description,
+        String url,
+        boolean isRead
+) {
+    public static NotificationStreamDto from(Notification notification) {
+        return new NotificationStreamDto(
+                notification.getId(),
+                notification.getUser().getId(),
+                notification.getTitle(),
+                notification.getDescription(),
+                notification.getUrl(),
+                notification.isRead()
+        );
+    }
+}
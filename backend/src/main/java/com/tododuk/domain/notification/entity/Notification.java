@@ -3,12 +3,15 @@ package com.tododuk.domain.notification.entity;
 import com.tododuk.domain.user.entity.User;
 import com.tododuk.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
 @Entity
+@Table(indexes = @Index(name = "idx_notification_user_is_read", columnList = "user_id, is_read"))
 @Getter
 @NoArgsConstructor
 public class Notification extends BaseEntity {
@@ -0,0 +1,11 @@
+package com.tododuk.domain.notification.event;
+
+import com.tododuk.domain.notification.dto.NotificationStreamDto;
+
+import java.util.List;
+
+// 알림 생성 이벤트 (커밋 이후 SSE 구독자에게 전달)
+public record NotificationCreatedEvent(
+        List<NotificationStreamDto> notifications
+) {
+}
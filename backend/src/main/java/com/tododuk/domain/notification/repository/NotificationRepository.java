@@ -2,11 +2,27 @@ package com.tododuk.domain.notification.repository;
 
 import com.tododuk.domain.notification.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Integer> {
 
     List<Notification> findByUser_Id(int userId);
 
+    // SSE 재연결 시 Last-Event-ID 이후 알림 재전송용
+    List<Notification> findTop100ByUser_IdAndIdGreaterThanOrderByIdAsc(int userId, int lastId);
+
+
+    // (user_id, is_read) 인덱스만으로 처리
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") int userId);
+
+    // 모두 읽음 처리 (UPDATE 한 번)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.modifyDate = :now WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllReadByUserId(@Param("userId") int userId, @Param("now") LocalDateTime now);
 }
@@ -1,16 +1,28 @@
 package com.tododuk.domain.notification.service;
 
+import com.tododuk.domain.notification.dto.NotificationDraft;
 import com.tododuk.domain.notification.dto.NotificationDto;
+import com.tododuk.domain.notification.dto.NotificationStreamDto;
 import com.tododuk.domain.notification.entity.Notification;
+import com.tododuk.domain.notification.event.NotificationCreatedEvent;
 import com.tododuk.domain.notification.repository.NotificationRepository;
 import com.tododuk.domain.reminder.dto.ReminderDto;
 import com.tododuk.domain.reminder.service.ReminderService;
 import com.tododuk.domain.user.entity.User;
 import com.tododuk.domain.user.service.UserService;
+import com.tododuk.global.entity.EntityIdAllocator;
 import com.tododuk.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,10 +34,21 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final ReminderService reminderService;
     private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator entityIdAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationUnreadCounter unreadCounter;
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+            INSERT INTO notification (id, user_id, title, description, url, is_read, create_date, modify_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
 
     public NotificationDto CreateNotification(User user, String title, String description, String url) {
         Notification notification = new Notification(user, title, description, url);
         notificationRepository.save(notification);
+        // 커밋 이후 SSE 구독자에게 전달
+        eventPublisher.publishEvent(new NotificationCreatedEvent(List.of(NotificationStreamDto.from(notification))));
         return new NotificationDto(notification.getId(), user, title, description, url, false);
     }
 
@@ -38,6 +61,9 @@ public class NotificationService {
     public void deleteNotification(Notification noti) {
 
         notificationRepository.delete(noti);
+        if (!noti.isRead()) {
+            unreadCounter.decrement(noti.getUser().getId());
+        }
     }
 
     public List<Notification> getNotifications() {
@@ -48,16 +74,59 @@ public class NotificationService {
     public NotificationDto CreateNotificationByReminder(int reminderId) {
         RsData<ReminderDto> reminder = reminderService.getReminderById(reminderId);
         User user = userService.findByUserEmail("awdawdawd@gamil.com").orElseThrow(() -> new IllegalArgumentException("User not found with email"));
-        String title = reminder.data().todo().getTitle();
-        String description = "Reminder for: " + reminder.data().todo().getDescription();
-        String url = "api/v1//todo/" + reminder.data().todo().getId();
-        return CreateNotification(user, title, description, url);
+        NotificationDraft draft = NotificationDraft.ofReminder(user.getId(), reminder.data().todo());
+        return CreateNotification(user, draft.title(), draft.description(), draft.url());
     }
 
+    // 알림 여러 건을 JDBC 배치 INSERT 한 번으로 생성 (리마인더 일괄 발송용, 트랜잭션 안에서 호출)
+    public List<Integer> createNotifications(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> ids = new ArrayList<>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            ids.add(entityIdAllocator.nextId(Notification.class));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NotificationDraft draft = drafts.get(i);
+                ps.setInt(1, ids.get(i));
+                ps.setInt(2, draft.userId());
+                ps.setString(3, draft.title());
+                ps.setString(4, draft.description());
+                ps.setString(5, draft.url());
+                ps.setBoolean(6, false);
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return drafts.size();
+            }
+        });
+
+        List<NotificationStreamDto> created = new ArrayList<>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            NotificationDraft draft = drafts.get(i);
+            created.add(new NotificationStreamDto(ids.get(i), draft.userId(), draft.title(), draft.description(), draft.url(), false));
+        }
+        eventPublisher.publishEvent(new NotificationCreatedEvent(created));
+
+        return ids;
+    }
 
     public Notification updateNotificationStatus(Optional<Notification> notificationDto) {
         Notification notification = findById(notificationDto.get().getId());
+        boolean wasRead = notification.isRead();
         notification.setIsRead(notificationDto.get().isRead());
+        if (!wasRead && notification.isRead()) {
+            unreadCounter.decrement(notification.getUser().getId());
+        }
         notificationRepository.save(notification);
         return notification;
 
@@ -67,4 +136,15 @@ public class NotificationService {
         return notificationRepository.findByUser_Id(id);
     }
 
+    public int getUnreadCount(int userId) {
+        return unreadCounter.get(userId);
+    }
+
+    // 내 알림 모두 읽음 처리, 변경된 건수 반환
+    public int markAllRead(int userId) {
+        int updated = notificationRepository.markAllReadByUserId(userId, LocalDateTime.now());
+        unreadCounter.reset(userId);
+        return updated;
+    }
+
 }
\ No newline at end of file
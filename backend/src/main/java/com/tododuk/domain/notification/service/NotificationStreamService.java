@@ -0,0 +1,248 @@
+package com.tododuk.domain.notification.service;
+
+import com.tododuk.domain.notification.dto.NotificationStreamDto;
+import com.tododuk.domain.notification.event.NotificationCreatedEvent;
+import com.tododuk.domain.notification.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자별 SSE 구독 관리 (비동기 서블릿이라 연결을 유지하는 동안 요청 스레드를 점유하지 않음)
+// 보낼 이벤트는 연결마다 큐에 쌓고, 보낼 것이 생긴 연결만 ready 큐에 한 번 올려 고정된 수의 전송 스레드가 돌아가며 보낸다.
+// 연결 수만큼 작업을 만들지 않으므로 연결이 수만 개여도 하트비트 때문에 대기열이 넘치지 않는다.
+// 끊겼다가 다시 연결하면 Last-Event-ID 이후 알림을 DB에서 먼저 보내고, 그동안 들어온 새 알림은 그 뒤에 보낸다.
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    private static final String EVENT_NAME = "notification";
+    // 읽지 않는 클라이언트에 쌓아 둘 수 있는 전송 대기 이벤트 수 (넘으면 연결을 끊고 재연결 시 DB에서 다시 받게 함)
+    private static final int MAX_QUEUED_EVENTS = 1000;
+    // 전송 스레드가 한 연결에서 연속으로 보낼 이벤트 수 (다른 연결이 오래 기다리지 않도록)
+    private static final int DRAIN_BATCH = 32;
+
+    private final NotificationRepository notificationRepository;
+    private final long timeoutMs;
+    private final int maxConnectionsPerUser;
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // 보낼 이벤트가 있는 연결 (연결마다 최대 한 번만 들어감)
+    private final BlockingQueue<Subscriber> ready = new LinkedBlockingQueue<>();
+    private final ExecutorService pushWorkers;
+
+    public NotificationStreamService(
+            NotificationRepository notificationRepository,
+            @Value("${custom.notification.sseTimeoutMs:1800000}") long timeoutMs,
+            @Value("${custom.notification.maxConnectionsPerUser:5}") int maxConnectionsPerUser,
+            @Value("${custom.notification.pushWorkers:4}") int pushWorkerCount
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.timeoutMs = timeoutMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.pushWorkers = Executors.newFixedThreadPool(pushWorkerCount, runnable -> {
+            Thread thread = new Thread(runnable, "notification-push-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < pushWorkerCount; i++) {
+            pushWorkers.execute(this::pushLoop);
+        }
+    }
+
+    public SseEmitter subscribe(int userId, Integer lastEventId) {
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeoutMs));
+        List<Subscriber> replaced = new ArrayList<>();
+
+        // remove()와 같은 키에서 원자적으로 처리 (방금 비워져 맵에서 빠진 집합에 추가되지 않도록)
+        subscribers.compute(userId, (id, emitters) -> {
+            Set<Subscriber> current = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            // 탭을 계속 여는 경우 기존 연결 하나를 정리
+            if (current.size() >= maxConnectionsPerUser) {
+                current.stream().findFirst().ifPresent(previous -> {
+                    current.remove(previous);
+                    replaced.add(previous);
+                });
+            }
+            current.add(subscriber);
+            return current;
+        });
+        replaced.forEach(previous -> previous.emitter.complete());
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 확인용 첫 이벤트 (프록시가 응답 헤더를 바로 내보내도록)
+        subscriber.enqueue(SseEmitter.event().comment("connected"));
+
+        List<NotificationStreamDto> replay = lastEventId == null
+                ? List.of()
+                : notificationRepository.findTop100ByUser_IdAndIdGreaterThanOrderByIdAsc(userId, lastEventId).stream()
+                        .map(NotificationStreamDto::from)
+                        .toList();
+        subscriber.finishReplay(replay);
+
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationCreatedEvent event) {
+        for (NotificationStreamDto notification : event.notifications()) {
+            Set<Subscriber> emitters = subscribers.get(notification.userId());
+            if (emitters == null) {
+                continue;
+            }
+            for (Subscriber subscriber : emitters) {
+                subscriber.push(notification);
+            }
+        }
+    }
+
+    // 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 주석 이벤트 전송 (보낼 이벤트가 밀려 있는 연결은 생략)
+    @Scheduled(fixedDelayString = "${custom.notification.heartbeatMs:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(emitters -> emitters.forEach(subscriber -> {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void stop() {
+        pushWorkers.shutdownNow();
+    }
+
+    private void pushLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                ready.take().drain();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("SSE 전송 중 오류", e);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, emitters) -> {
+            emitters.remove(subscriber);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    // 연결 하나의 전송 큐 (한 번에 한 스레드만 보내서 이벤트 순서 유지)
+    private class Subscriber {
+        private final int userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 재전송이 끝나기 전에 들어온 새 알림 (재전송 후 null)
+        private List<NotificationStreamDto> held = new ArrayList<>();
+
+        private Subscriber(int userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        synchronized void push(NotificationStreamDto notification) {
+            if (held != null) {
+                held.add(notification);
+            } else {
+                enqueue(toEvent(notification));
+            }
+        }
+
+        // DB 재전송분을 먼저 넣고, 그동안 보류한 새 알림 중 재전송에 없던 것만 이어서 넣음
+        synchronized void finishReplay(List<NotificationStreamDto> replay) {
+            int lastReplayedId = 0;
+            for (NotificationStreamDto notification : replay) {
+                enqueue(toEvent(notification));
+                lastReplayedId = notification.id();
+            }
+            for (NotificationStreamDto notification : held) {
+                if (notification.id() > lastReplayedId) {
+                    enqueue(toEvent(notification));
+                }
+            }
+            held = null;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > MAX_QUEUED_EVENTS) {
+                close();
+                return;
+            }
+            queue.offer(event);
+            scheduleDrain();
+        }
+
+        // 이미 ready 큐에 있거나 전송 중이면 다시 넣지 않음
+        private void scheduleDrain() {
+            if (scheduled.compareAndSet(false, true)) {
+                ready.offer(this);
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            for (int sent = 0; sent < DRAIN_BATCH && (event = queue.poll()) != null; sent++) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+
+            scheduled.set(false);
+            // 남은 이벤트나 마지막 poll 이후 들어온 이벤트는 ready 큐 뒤로 다시 넣어 이어서 처리
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                remove(this);
+                emitter.complete();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(NotificationStreamDto notification) {
+            return SseEmitter.event()
+                    .id(String.valueOf(notification.id()))
+                    .name(EVENT_NAME)
+                    .data(notification);
+        }
+    }
+}
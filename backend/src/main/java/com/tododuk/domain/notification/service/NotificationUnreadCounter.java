@@ -0,0 +1,119 @@
+package com.tododuk.domain.notification.service;
+
+import com.tododuk.domain.notification.dto.NotificationStreamDto;
+import com.tododuk.domain.notification.event.NotificationCreatedEvent;
+import com.tododuk.domain.notification.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 사용자별 안 읽은 알림 수 메모리 캐시 (프로세스 로컬)
+// 처음 조회할 때 (user_id, is_read) 인덱스 COUNT로 채우고, 이후에는 커밋된 변경만 증감한다.
+// 캐시에 없는 사용자의 변경은 무시한다 (다음 조회 때 DB에서 다시 셈).
+// COUNT 도중 커밋된 변경은 버전으로 감지해 다시 세고, 커밋과 커밋 이후 반영 사이에 센 경우처럼
+// 버전으로 구분할 수 없는 오차는 unreadCountTtlSeconds가 지나면 DB에서 다시 세어 바로잡는다.
+@Component
+public class NotificationUnreadCounter {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final NotificationRepository notificationRepository;
+    private final long ttlNanos;
+    private final Map<Integer, UnreadCount> counts = new ConcurrentHashMap<>();
+    // 사용자별 증감 횟수 (COUNT 중에 들어온 변경 감지용)
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+
+    public NotificationUnreadCounter(
+            NotificationRepository notificationRepository,
+            @Value("${custom.notification.unreadCountTtlSeconds:60}") long ttlSeconds
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public int get(int userId) {
+        UnreadCount cached = counts.get(userId);
+        if (cached != null && System.nanoTime() - cached.loadedAt < ttlNanos) {
+            return cached.value.get();
+        }
+        return load(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationCreatedEvent event) {
+        for (NotificationStreamDto notification : event.notifications()) {
+            if (!notification.isRead()) {
+                add(notification.userId(), 1);
+            }
+        }
+    }
+
+    // 안 읽은 알림을 읽음 처리/삭제했을 때 (커밋 이후 반영)
+    public void decrement(int userId) {
+        afterCommit(() -> add(userId, -1));
+    }
+
+    // 모두 읽음 처리 이후
+    public void reset(int userId) {
+        afterCommit(() -> update(userId, count -> count.set(0)));
+    }
+
+    // COUNT 전후로 변경이 없을 때만 캐시에 넣음 (계속 바뀌면 이번 조회에만 쓰고 다음 조회 때 다시 셈)
+    private int load(int userId) {
+        int count = 0;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = versions.getOrDefault(userId, 0L);
+            count = (int) notificationRepository.countUnreadByUserId(userId);
+
+            UnreadCount loaded = new UnreadCount(count, System.nanoTime());
+            UnreadCount installed = counts.compute(userId, (id, current) ->
+                    versions.getOrDefault(id, 0L) == version ? loaded : current);
+            if (installed == loaded) {
+                return count;
+            }
+        }
+        return count;
+    }
+
+    private void add(int userId, int delta) {
+        update(userId, count -> count.updateAndGet(value -> Math.max(0, value + delta)));
+    }
+
+    // 버전 증가와 캐시 반영을 같은 키의 compute 안에서 처리 (적재와 엇갈리지 않도록)
+    private void update(int userId, Consumer<AtomicInteger> change) {
+        counts.compute(userId, (id, count) -> {
+            versions.merge(id, 1L, Long::sum);
+            if (count != null) {
+                change.accept(count.value);
+            }
+            return count;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record UnreadCount(AtomicInteger value, long loadedAt) {
+        UnreadCount(int value, long loadedAt) {
+            this(new AtomicInteger(value), loadedAt);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tododuk.domain.reminder.dto;
+
+import java.time.LocalDateTime;
+
+// 발송 스케줄 적재/확인용 (리마인더 id + 발송 시각)
+public record ReminderFireRow(
+        Integer id,
+        LocalDateTime remindAt
+) {
+}
@@ -3,10 +3,15 @@ package com.tododuk.domain.reminder.entity;
 import com.tododuk.domain.todo.entity.Todo;
 import com.tododuk.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 
 import java.time.LocalDateTime;
@@ -15,16 +20,30 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+// 발송 대기 리마인더를 시각 범위로 조회 (시작 시 복구, 구간 적재)
+@Table(indexes = @Index(name = "idx_reminder_status_remind_at", columnList = "status, remind_at"))
 public class Reminder extends BaseEntity {
     @ManyToOne
     private Todo todo;
     private LocalDateTime remindAt;
     private String method; //알림 내용? 알림 방법?
 
+    // 발송 상태 (PENDING, SENT, MISSED)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PENDING'")
+    private ReminderStatus status = ReminderStatus.PENDING;
+
+    // 실제 발송 시각
+    private LocalDateTime sentAt;
+
+    public enum ReminderStatus {
+        PENDING, SENT, MISSED
+    }
+
     public Reminder(Todo todo, LocalDateTime remindAt, String method) {
         this.todo = todo;
         this.remindAt = remindAt;
         this.method = method;
     }
 
-}
\ No newline at end of file
+}
@@ -1,8 +1,65 @@
 package com.tododuk.domain.reminder.repository;
 
+import com.tododuk.domain.reminder.dto.ReminderFireRow;
 import com.tododuk.domain.reminder.entity.Reminder;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReminderRepository extends JpaRepository<Reminder, Integer> {
 
+    // 발송 대기 중이고 발송 시각이 (from, to] 구간인 리마인더 (타이밍 휠 구간 적재/시작 시 복구용)
+    // (status, remind_at) 인덱스 범위 조회
+    @Query("""
+            SELECT new com.tododuk.domain.reminder.dto.ReminderFireRow(r.id, r.remindAt)
+            FROM Reminder r
+            WHERE r.status = :status AND r.remindAt > :from AND r.remindAt <= :to
+            """)
+    List<ReminderFireRow> findFireRowsBetween(@Param("status") Reminder.ReminderStatus status,
+                                              @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 발송 직전 선점 (대기 중이고 시각이 된 것만 잠금, 중복 발송 방지)
+    // 알림 생성에 필요한 할일/목록 소유자까지 한 번에 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT r FROM Reminder r
+            JOIN FETCH r.todo t
+            JOIN FETCH t.todoList l
+            LEFT JOIN FETCH l.user
+            WHERE r.id IN :ids AND r.status = :status AND r.remindAt <= :until
+            """)
+    List<Reminder> findDueForUpdate(@Param("ids") List<Integer> ids, @Param("status") Reminder.ReminderStatus status,
+                                    @Param("until") LocalDateTime until);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reminder r SET r.status = :status, r.sentAt = :sentAt WHERE r.id IN :ids")
+    int markStatus(@Param("ids") List<Integer> ids, @Param("status") Reminder.ReminderStatus status,
+                   @Param("sentAt") LocalDateTime sentAt);
+
+    // 복구 허용 시간보다 오래 밀린 리마인더는 발송하지 않고 MISSED 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reminder r SET r.status = :missed WHERE r.status = :pending AND r.remindAt <= :before")
+    int markMissedBefore(@Param("pending") Reminder.ReminderStatus pending, @Param("missed") Reminder.ReminderStatus missed,
+                         @Param("before") LocalDateTime before);
+
+    // 팀 분할 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reminder r WHERE r.todo.id IN :todoIds")
+    int bulkDeleteByTodoIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 팀 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reminder r WHERE r.todo.id IN (SELECT t.id FROM Todo t WHERE t.todoList.team.id = :teamId)")
+    int bulkDeleteByTeamId(@Param("teamId") int teamId);
+
+    // 할일 목록 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reminder r WHERE r.todo.id IN (SELECT t.id FROM Todo t WHERE t.todoList.id = :todoListId)")
+    int bulkDeleteByTodoListId(@Param("todoListId") int todoListId);
 }
@@ -0,0 +1,245 @@
+package com.tododuk.domain.reminder.scheduler;
+
+import com.tododuk.domain.reminder.dto.ReminderFireRow;
+import com.tododuk.domain.reminder.entity.Reminder;
+import com.tododuk.domain.reminder.repository.ReminderRepository;
+import com.tododuk.domain.reminder.service.ReminderFireService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 리마인더 발송 디스패처 (Quartz 작업을 리마인더마다 만들지 않고 타이밍 휠 하나로 처리)
+// 가까운 구간(windowMs)의 리마인더만 DB에서 읽어 휠에 넣고, 매 틱마다 만료된 것을 묶어서 발송한다.
+// 발송 상태는 DB(Reminder.status)에 있으므로 재시작해도 대기 중인 리마인더는 다시 적재된다.
+// 휠에는 (id, 발송 시각)만 있고, 발송 시 대기 상태를 잠가서 선점하므로 수정/삭제/중복 항목은 발송되지 않는다.
+@Component
+@Slf4j
+public class ReminderDispatcher {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+    // 발송 시각이 이만큼(틱 수) 지났는데도 대기 상태면 유실된 것으로 보고 다시 발송
+    private static final int STALE_TICKS = 30;
+
+    private final ReminderRepository reminderRepository;
+    private final ObjectProvider<ReminderFireService> reminderFireService;
+    private final ThreadPoolTaskExecutor fireExecutor;
+    private final long tickMs;
+    private final long windowMs;
+    private final long catchUpMs;
+    private final int batchSize;
+    private final Timer tickTimer;
+    private final DistributionSummary tickExpired;
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reminder-tick");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TimingWheel wheel;
+    // 이 시각까지의 리마인더는 이미 휠에 적재됨 (이후 생성분은 schedule()로 직접 추가)
+    private long loadedUntilMs;
+    private volatile boolean started;
+
+    // ReminderFireService -> NotificationService -> ReminderService -> ReminderDispatcher 순환 참조를 피하려고 ObjectProvider로 주입
+    public ReminderDispatcher(
+            ReminderRepository reminderRepository,
+            ObjectProvider<ReminderFireService> reminderFireService,
+            @Qualifier("reminderFireExecutor") ThreadPoolTaskExecutor fireExecutor,
+            @Value("${custom.reminder.tickMs:1000}") long tickMs,
+            @Value("${custom.reminder.windowMs:600000}") long windowMs,
+            @Value("${custom.reminder.catchUpMs:3600000}") long catchUpMs,
+            @Value("${custom.reminder.batchSize:500}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.reminderRepository = reminderRepository;
+        this.reminderFireService = reminderFireService;
+        this.fireExecutor = fireExecutor;
+        this.tickMs = tickMs;
+        this.windowMs = windowMs;
+        this.catchUpMs = catchUpMs;
+        this.batchSize = batchSize;
+        this.tickTimer = Timer.builder("reminder.tick.duration")
+                .description("타이밍 휠 한 틱 처리 시간 (만료 항목 수집 + 발송 대기열 등록)")
+                .register(meterRegistry);
+        this.tickExpired = DistributionSummary.builder("reminder.tick.expired")
+                .description("한 틱에 만료된 리마인더 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("reminder.wheel.pending", this, dispatcher -> dispatcher.pendingCount());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            wheel = new TimingWheel(tickMs, WHEEL_SIZE, WHEEL_LEVELS, now);
+            loadedUntilMs = now;
+            started = true;
+        }
+
+        recover(now);
+        loadWindow();
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 서버가 내려가 있는 동안 지난 리마인더 처리
+    // catchUpMs 안쪽은 바로 발송하고, 그보다 오래된 것은 늦은 알림이 되지 않도록 MISSED 처리
+    private void recover(long now) {
+        LocalDateTime catchUpFrom = toLocalDateTime(now - catchUpMs);
+        int missed = reminderFireService.getObject().markMissedBefore(catchUpFrom);
+
+        List<Integer> overdue = reminderRepository.findFireRowsBetween(
+                        Reminder.ReminderStatus.PENDING, catchUpFrom, toLocalDateTime(now)).stream()
+                .map(ReminderFireRow::id)
+                .toList();
+        fire(overdue);
+
+        log.info("리마인더 복구. catchUp: {}, missed: {}", overdue.size(), missed);
+    }
+
+    // 다음 구간을 미리 적재 (구간이 겹치지 않도록 loadedUntil 이후만 조회)
+    @Scheduled(fixedDelayString = "${custom.reminder.loadIntervalMs:60000}")
+    public synchronized void loadWindow() {
+        if (!started) {
+            return;
+        }
+
+        long to = System.currentTimeMillis() + windowMs;
+        if (to <= loadedUntilMs) {
+            return;
+        }
+
+        List<ReminderFireRow> rows = reminderRepository.findFireRowsBetween(
+                Reminder.ReminderStatus.PENDING, toLocalDateTime(loadedUntilMs), toLocalDateTime(to));
+        List<Integer> expired = new ArrayList<>();
+        for (ReminderFireRow row : rows) {
+            if (!wheel.add(row.id(), toEpochMs(row.remindAt()))) {
+                expired.add(row.id());
+            }
+        }
+        loadedUntilMs = to;
+
+        // 발송 대기열 포화/오류로 휠에서 빠졌지만 아직 대기 상태인 리마인더 재발송 (선점 조회로 중복 없음)
+        long now = System.currentTimeMillis();
+        reminderRepository.findFireRowsBetween(Reminder.ReminderStatus.PENDING,
+                        toLocalDateTime(now - catchUpMs), toLocalDateTime(now - STALE_TICKS * tickMs))
+                .forEach(row -> expired.add(row.id()));
+
+        fire(expired);
+        log.debug("리마인더 구간 적재. loaded: {}, pending: {}", rows.size(), wheel.size());
+    }
+
+    // 리마인더 생성/시각 변경 시 호출 (커밋 이후 반영)
+    public void schedule(int reminderId, LocalDateTime remindAt) {
+        if (remindAt == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    arm(reminderId, remindAt);
+                }
+            });
+        } else {
+            arm(reminderId, remindAt);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void arm(int reminderId, LocalDateTime remindAt) {
+        long fireAt = toEpochMs(remindAt);
+        boolean expired;
+
+        synchronized (this) {
+            // 아직 적재되지 않은 구간이면 구간 적재 때 DB에서 읽힘
+            if (!started || fireAt > loadedUntilMs) {
+                return;
+            }
+            expired = !wheel.add(reminderId, fireAt);
+        }
+
+        if (expired) {
+            fire(List.of(reminderId));
+        }
+    }
+
+    private void tick() {
+        try {
+            Timer.Sample sample = Timer.start();
+            List<Integer> expired = new ArrayList<>();
+            synchronized (this) {
+                wheel.advance(System.currentTimeMillis(), (reminderId, fireAtMs) -> expired.add(reminderId));
+            }
+            fire(expired);
+
+            if (!expired.isEmpty()) {
+                tickExpired.record(expired.size());
+            }
+            sample.stop(tickTimer);
+        } catch (Exception e) {
+            // 예외가 나가면 scheduleAtFixedRate가 멈추므로 여기서 처리
+            log.error("리마인더 틱 처리 실패", e);
+        }
+    }
+
+    private synchronized int pendingCount() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private void fire(List<Integer> reminderIds) {
+        for (int from = 0; from < reminderIds.size(); from += batchSize) {
+            List<Integer> batch = List.copyOf(reminderIds.subList(from, Math.min(from + batchSize, reminderIds.size())));
+            try {
+                fireExecutor.execute(() -> fireBatch(batch));
+            } catch (TaskRejectedException e) {
+                log.error("리마인더 발송 대기열이 가득 차 발송하지 못했습니다. count: {}", batch.size(), e);
+            }
+        }
+    }
+
+    private void fireBatch(List<Integer> reminderIds) {
+        try {
+            // 한 틱 안쪽까지 도래한 대기 상태만 발송 (수정/삭제/이미 발송된 것은 제외)
+            reminderFireService.getObject().fire(reminderIds, toLocalDateTime(System.currentTimeMillis() + tickMs));
+        } catch (Exception e) {
+            log.error("리마인더 발송 실패. reminderIds: {}", reminderIds, e);
+        }
+    }
+
+    private static long toEpochMs(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+}
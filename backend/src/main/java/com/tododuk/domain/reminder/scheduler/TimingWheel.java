@@ -0,0 +1,110 @@
+package com.tododuk.domain.reminder.scheduler;
+
+import java.util.Arrays;
+
+// 계층형 타이밍 휠 (리마인더 id + 발송 시각만 원시 배열로 보관)
+// 0단계 한 칸은 tickMs, k단계 한 칸은 tickMs * wheelSize^k 이고, 상위 단계 칸이 돌아오면 하위 단계로 내려 보낸다.
+// 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+public class TimingWheel {
+
+    @FunctionalInterface
+    public interface ExpiredSink {
+        void accept(int reminderId, long fireAtMs);
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] levelTickMs;
+    private final Bucket[][] levels;
+    private long currentTime;
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levelTickMs = new long[levelCount];
+        this.levels = new Bucket[levelCount][wheelSize];
+        this.currentTime = startMs - (startMs % tickMs);
+
+        long levelTick = tickMs;
+        for (int level = 0; level < levelCount; level++) {
+            levelTickMs[level] = levelTick;
+            levelTick *= wheelSize;
+        }
+    }
+
+    // 이미 지난(현재 칸에 해당하는) 항목이면 false를 반환하고 넣지 않음 -> 호출하는 쪽에서 바로 발송
+    public boolean add(int reminderId, long fireAtMs) {
+        if (fireAtMs < currentTime + tickMs) {
+            return false;
+        }
+
+        long delay = fireAtMs - currentTime;
+        int level = 0;
+        // 마지막 단계는 범위를 넘어도 그대로 보관하고, 칸이 돌아올 때마다 다시 배치한다.
+        while (level < levels.length - 1 && delay >= levelTickMs[level] * wheelSize) {
+            level++;
+        }
+
+        int slot = (int) ((fireAtMs / levelTickMs[level]) % wheelSize);
+        Bucket bucket = levels[level][slot];
+        if (bucket == null) {
+            bucket = levels[level][slot] = new Bucket();
+        }
+        bucket.add(reminderId, fireAtMs);
+        size++;
+        return true;
+    }
+
+    // nowMs까지 한 칸씩 진행하면서 만료된 항목을 sink로 넘김
+    public void advance(long nowMs, ExpiredSink sink) {
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+
+            // 상위 단계부터 이번 시각에 돌아온 칸을 하위 단계로 내림
+            for (int level = levels.length - 1; level >= 1; level--) {
+                if (currentTime % levelTickMs[level] == 0) {
+                    int slot = (int) ((currentTime / levelTickMs[level]) % wheelSize);
+                    redistribute(level, slot, sink);
+                }
+            }
+
+            redistribute(0, (int) ((currentTime / tickMs) % wheelSize), sink);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void redistribute(int level, int slot, ExpiredSink sink) {
+        Bucket bucket = levels[level][slot];
+        if (bucket == null || bucket.size == 0) {
+            return;
+        }
+        levels[level][slot] = null;
+        size -= bucket.size;
+
+        for (int i = 0; i < bucket.size; i++) {
+            if (!add(bucket.ids[i], bucket.fireAts[i])) {
+                sink.accept(bucket.ids[i], bucket.fireAts[i]);
+            }
+        }
+    }
+
+    private static class Bucket {
+        private int[] ids = new int[4];
+        private long[] fireAts = new long[4];
+        private int size;
+
+        void add(int id, long fireAt) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                fireAts = Arrays.copyOf(fireAts, size * 2);
+            }
+            ids[size] = id;
+            fireAts[size] = fireAt;
+            size++;
+        }
+    }
+}
@@ -1,39 +0,0 @@
-package com.tododuk.domain.reminder.service;
-
-import org.quartz.spi.JobFactory;
-import org.quartz.spi.TriggerFiredBundle;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.quartz.SchedulerFactoryBean;
-import org.springframework.scheduling.quartz.SpringBeanJobFactory;
-
-// QuartzConfig.java
-@Configuration
-public class QuartzConfig {
-
-    private final AutowireCapableBeanFactory beanFactory;
-
-    public QuartzConfig(AutowireCapableBeanFactory beanFactory) {
-        this.beanFactory = beanFactory;
-    }
-
-    @Bean
-    public SchedulerFactoryBean schedulerFactoryBean() {
-        SchedulerFactoryBean factory = new SchedulerFactoryBean();
-        factory.setJobFactory(springBeanJobFactory());
-        return factory;
-    }
-
-    @Bean
-    public JobFactory springBeanJobFactory() {
-        return new SpringBeanJobFactory() {
-            @Override
-            protected Object createJobInstance(TriggerFiredBundle bundle) throws Exception {
-                Object job = super.createJobInstance(bundle);
-                beanFactory.autowireBean(job);  //
-                return job;
-            }
-        };
-    }
-}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.tododuk.domain.reminder.service;
+
+import com.tododuk.domain.notification.dto.NotificationDraft;
+import com.tododuk.domain.notification.service.NotificationService;
+import com.tododuk.domain.reminder.entity.Reminder;
+import com.tododuk.domain.reminder.repository.ReminderRepository;
+import com.tododuk.domain.todo.entity.Todo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 리마인더 발송 처리 (같은 틱에 도래한 리마인더를 한 번에 선점하고 알림을 JDBC 배치로 생성)
+// 1) 대기 상태 리마인더 + 할일 + 목록 소유자를 잠금 조회 한 번으로 읽고
+// 2) SENT 처리 UPDATE 한 번, 3) 알림 INSERT 배치 한 번을 같은 트랜잭션에서 실행한다.
+@Service
+@Slf4j
+public class ReminderFireService {
+
+    private final ReminderRepository reminderRepository;
+    private final NotificationService notificationService;
+    private final Timer fanOutTimer;
+    private final DistributionSummary batchSize;
+    private final Timer deliveryLag;
+    private final Counter unaddressedCount;
+
+    public ReminderFireService(
+            ReminderRepository reminderRepository,
+            NotificationService notificationService,
+            MeterRegistry meterRegistry
+    ) {
+        this.reminderRepository = reminderRepository;
+        this.notificationService = notificationService;
+        this.fanOutTimer = Timer.builder("reminder.fanout.duration")
+                .description("리마인더 묶음 하나를 발송하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("reminder.fanout.batch.size")
+                .description("한 번에 발송한 리마인더 수")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("reminder.delivery.lag")
+                .description("예정 시각 대비 실제 발송 지연")
+                .register(meterRegistry);
+        this.unaddressedCount = Counter.builder("reminder.fanout.unaddressed")
+                .description("목록 소유자가 없어 발송하지 못하고 MISSED 처리한 리마인더 수")
+                .register(meterRegistry);
+    }
+
+    // 실제로 발송한 리마인더 수 반환 (이미 발송됐거나 시각이 미뤄졌거나 삭제된 것은 제외)
+    @Transactional
+    public int fire(List<Integer> reminderIds, LocalDateTime until) {
+        return fanOutTimer.record(() -> {
+            List<Reminder> due = reminderRepository.findDueForUpdate(reminderIds, Reminder.ReminderStatus.PENDING, until);
+            if (due.isEmpty()) {
+                return 0;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            // 목록 소유자가 없으면 받을 사람이 없으므로 발송하지 않고 MISSED 처리
+            Map<Boolean, List<Reminder>> byAddressed = due.stream()
+                    .collect(Collectors.partitioningBy(reminder -> reminder.getTodo().getTodoList().getUser() != null));
+            List<Reminder> addressed = byAddressed.get(true);
+            List<Reminder> unaddressed = byAddressed.get(false);
+
+            // 상태 UPDATE가 영속성 컨텍스트를 비우므로 알림 내용은 먼저 만들어 둠
+            List<NotificationDraft> drafts = addressed.stream().map(this::toDraft).toList();
+            List<Integer> unaddressedIds = unaddressed.stream().map(Reminder::getId).toList();
+            addressed.forEach(reminder -> deliveryLag.record(Duration.between(reminder.getRemindAt(), now)));
+
+            if (!drafts.isEmpty()) {
+                reminderRepository.markStatus(addressed.stream().map(Reminder::getId).toList(), Reminder.ReminderStatus.SENT, now);
+                notificationService.createNotifications(drafts);
+            }
+            if (!unaddressedIds.isEmpty()) {
+                reminderRepository.markStatus(unaddressedIds, Reminder.ReminderStatus.MISSED, null);
+                unaddressedCount.increment(unaddressedIds.size());
+                log.warn("받을 사용자가 없는 리마인더를 MISSED 처리했습니다. reminderIds: {}", unaddressedIds);
+            }
+
+            batchSize.record(drafts.size());
+            return drafts.size();
+        });
+    }
+
+    @Transactional
+    public int markMissedBefore(LocalDateTime before) {
+        return reminderRepository.markMissedBefore(Reminder.ReminderStatus.PENDING, Reminder.ReminderStatus.MISSED, before);
+    }
+
+    private NotificationDraft toDraft(Reminder reminder) {
+        Todo todo = reminder.getTodo();
+        return NotificationDraft.ofReminder(todo.getTodoList().getUser().getId(), todo);
+    }
+}
@@ -2,32 +2,30 @@ package com.tododuk.domain.reminder.service;
 
 import com.tododuk.domain.reminder.dto.ReminderDto;
 import com.tododuk.domain.reminder.entity.Reminder;
-import com.tododuk.domain.reminder.job.ReminderJob;
 import com.tododuk.domain.reminder.repository.ReminderRepository;
+import com.tododuk.domain.reminder.scheduler.ReminderDispatcher;
 import com.tododuk.domain.todo.entity.Todo;
 import com.tododuk.domain.todo.service.TodoService;
 import com.tododuk.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
-import org.quartz.*;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ReminderService {
     private final ReminderRepository reminderRepository;
     private final TodoService todoService;
-    private final Scheduler scheduler;
+    private final ReminderDispatcher reminderDispatcher;
 
     public Reminder createReminder(int todoId, LocalDateTime remindDateTime, String method) {
         Todo todo = todoService.getTodoById(todoId);
         Reminder reminder = new Reminder(todo, remindDateTime, method);
         reminderRepository.save(reminder);
-        scheduleReminderJob(reminder);
+        reminderDispatcher.schedule(reminder.getId(), reminder.getRemindAt());
         return reminder;
     }
 
@@ -60,32 +58,21 @@ public class ReminderService {
 
         return reminderRepository.findById(id)
                 .map(reminder -> {
+                    boolean rescheduled = !Objects.equals(remindDateTime, reminder.getRemindAt());
                     reminder.setRemindAt(remindDateTime);
                     reminder.setMethod(method);
+                    // 시각이 바뀌면 이미 발송된 리마인더도 다시 대기 상태로
+                    if (rescheduled) {
+                        reminder.setStatus(Reminder.ReminderStatus.PENDING);
+                        reminder.setSentAt(null);
+                    }
                     reminderRepository.save(reminder);
+                    // 이전 시각의 휠 항목은 발송 시 선점 조회에서 걸러짐
+                    if (rescheduled) {
+                        reminderDispatcher.schedule(reminder.getId(), remindDateTime);
+                    }
                     return new RsData<>("200-1", "Reminder updated successfully", new ReminderDto(reminder));
                 })
                 .orElse(new RsData<>("400-1", "Reminder not found", null));
     }
-
-    public void scheduleReminderJob(Reminder reminder) {
-
-        try {
-            JobDetail jobDetail = JobBuilder.newJob(ReminderJob.class)
-                    .withIdentity("reminderJob-" + reminder.getId())
-                    .usingJobData("reminderId", reminder.getId())
-                    .build();
-            System.out.println("스케줄러 작동");
-
-            Trigger trigger = TriggerBuilder.newTrigger()
-                    .startAt(Date.from(reminder.getRemindAt().atZone(ZoneId.systemDefault()).toInstant()))
-                    .build();
-
-            scheduler.scheduleJob(jobDetail, trigger);
-        } catch (SchedulerException e) {
-            throw new RuntimeException("Failed to schedule job", e);
-        }
-    }
-
-
-}
\ No newline at end of file
+}
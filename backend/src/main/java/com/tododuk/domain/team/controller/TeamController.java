@@ -1,7 +1,11 @@
 package com.tododuk.domain.team.controller;
 
+import com.tododuk.domain.team.dto.CascadeDeleteResultDto;
 import com.tododuk.domain.team.dto.TeamCreateRequestDto;
+import com.tododuk.domain.team.dto.TeamDeletionJobDto;
 import com.tododuk.domain.team.dto.TeamResponseDto;
+import com.tododuk.domain.team.dto.TeamStatsDto;
+import com.tododuk.domain.team.dto.TeamTodoListDto;
 import com.tododuk.domain.team.dto.TeamUpdateRequestDto;
 import com.tododuk.domain.team.service.TeamService;
 import com.tododuk.global.rq.Rq;
@@ -11,8 +15,10 @@ import com.tododuk.domain.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import com.tododuk.domain.team.entity.Team;
 import com.tododuk.domain.user.repository.UserRepository;
@@ -140,14 +146,29 @@ public class TeamController {
 
     // 5. 팀 삭제
     @Operation(summary = "리더 - 팀 삭제",
-            description = "지정된 팀 ID에 해당하는 팀을 삭제합니다. (리더만 가능)")
+            description = "지정된 팀 ID에 해당하는 팀과 하위 할일 목록/할일/라벨/리마인더/담당자 기록을 일괄 삭제하고 테이블별 삭제 건수를 반환합니다. async=true이면 팀을 즉시 숨기고 백그라운드에서 삭제한 뒤 작업 ID를 반환합니다. (리더만 가능)")
     @DeleteMapping("/{teamId}")
-    public RsData<Void> deleteTeam(@PathVariable int teamId) {
+    public RsData<?> deleteTeam(
+            @PathVariable int teamId,
+            @RequestParam(defaultValue = "false") boolean async
+    ) {
         User authenticatedUser = getAuthenticatedUser();
+        if (async) {
+            return teamService.deleteTeamAsync(teamId, authenticatedUser.getId());
+        }
         // 서비스로부터 받은 RsData 객체를 그대로 반환
         return teamService.deleteTeam(teamId, authenticatedUser.getId());
     }
 
+    // 팀 비동기 삭제 작업 진행 상황 조회
+    @Operation(summary = "팀 삭제 작업 조회",
+            description = "async=true로 요청한 팀 삭제 작업의 상태와 진행률을 조회합니다. (삭제를 요청한 사용자만 가능)")
+    @GetMapping("/deletion-jobs/{jobId}")
+    public RsData<TeamDeletionJobDto> getTeamDeletionJob(@PathVariable String jobId) {
+        User authenticatedUser = getAuthenticatedUser();
+        return teamService.getTeamDeletionJob(jobId, authenticatedUser.getId());
+    }
+
     // 6. 팀 할일 목록 조회
     @GetMapping("/{teamId}/todos")
     @Operation(summary = "할일 목록 조회",
@@ -172,10 +193,15 @@ public class TeamController {
     // 팀별 할일 목록 조회
     @GetMapping("/{teamId}/todo-lists")
     @Operation(summary = "팀 할일 목록 조회",
-            description = "지정된 팀의 할일 목록들을 조회합니다. (팀 멤버만 가능)")
-    public RsData<List<Map<String, Object>>> getTeamTodoLists(@PathVariable int teamId) {
+            description = "지정된 팀의 할일 목록들을 id 순으로 페이지 조회합니다. size는 최대 100이며, includeCounts=true이면 목록별 할일/완료 건수를 함께 반환합니다. (팀 멤버만 가능)")
+    public RsData<List<TeamTodoListDto>> getTeamTodoLists(
+            @PathVariable int teamId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeCounts
+    ) {
         User authenticatedUser = getAuthenticatedUser();
-        return teamService.getTeamTodoLists(teamId, authenticatedUser.getId());
+        return teamService.getTeamTodoLists(teamId, authenticatedUser.getId(), page, size, includeCounts);
     }
 
     // 팀 할일 목록 생성
@@ -206,8 +232,8 @@ public class TeamController {
     // 팀 할일 목록 삭제
     @DeleteMapping("/{teamId}/todo-lists/{todoListId}")
     @Operation(summary = "팀 할일 목록 삭제",
-            description = "지정된 팀의 할일 목록을 삭제합니다. (팀 멤버만 가능)")
-    public RsData<Void> deleteTeamTodoList(
+            description = "지정된 팀의 할일 목록과 하위 할일/라벨/리마인더/담당자 기록을 일괄 삭제하고 테이블별 삭제 건수를 반환합니다. (팀 멤버만 가능)")
+    public RsData<CascadeDeleteResultDto> deleteTeamTodoList(
             @PathVariable int teamId,
             @PathVariable int todoListId
     ) {
@@ -381,9 +407,16 @@ public class TeamController {
 
     @GetMapping("/{teamId}/stats")
     @Operation(summary = "팀 할일 통계 조회",
-            description = "지정된 팀의 할일 통계를 조회합니다. (팀 멤버만 가능)")
-    public RsData<Map<String, Object>> getTeamStats(@PathVariable int teamId) {
+            description = "지정된 팀의 할일 통계 요약(전체/우선순위별)을 조회합니다. detail=true 또는 now를 지정하면 DB에서 목록/담당자별 통계까지 집계합니다. (팀 멤버만 가능)")
+    public RsData<TeamStatsDto> getTeamStats(
+            @PathVariable int teamId,
+            @RequestParam(defaultValue = "false") boolean detail,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime now
+    ) {
         User authenticatedUser = getAuthenticatedUser();
-        return teamService.getTeamStats(teamId, authenticatedUser.getId());
+        if (!detail && now == null) {
+            return teamService.getTeamStats(teamId, authenticatedUser.getId());
+        }
+        return teamService.getTeamStats(teamId, authenticatedUser.getId(), now != null ? now : LocalDateTime.now());
     }
 }
\ No newline at end of file
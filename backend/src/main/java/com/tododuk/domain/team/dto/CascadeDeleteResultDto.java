@@ -0,0 +1,13 @@
+package com.tododuk.domain.team.dto;
+
+// 팀/할일 목록 일괄 삭제 결과 (테이블별 삭제 건수)
+public record CascadeDeleteResultDto(
+        int todoAssignments,
+        int todoLabels,
+        int reminders,
+        int todos,
+        int todoLists,
+        int teamMembers,
+        int teams
+) {
+}
@@ -0,0 +1,18 @@
+package com.tododuk.domain.team.dto;
+
+import java.time.LocalDateTime;
+
+// 팀 비동기 삭제 작업 진행 상황
+public record TeamDeletionJobDto(
+        String jobId,
+        int teamId,
+        String status,
+        long totalTodos,
+        long deletedTodos,
+        int progress,
+        LocalDateTime requestedAt,
+        LocalDateTime finishedAt,
+        String errorMessage,
+        CascadeDeleteResultDto result
+) {
+}
@@ -0,0 +1,11 @@
+package com.tododuk.domain.team.dto;
+
+// 팀 통계 집계 쿼리 결과 (담당자 단위)
+public record TeamMemberStatsRow(
+        Integer userId,
+        String nickname,
+        Long total,
+        Long completed,
+        Long overdue
+) {
+}
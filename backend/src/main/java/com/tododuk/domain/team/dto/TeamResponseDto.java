@@ -36,4 +36,15 @@ public class TeamResponseDto {
                 .members(memberDtos)
                 .build();
     }
+
+    public static TeamResponseDto of(TeamSummaryRow team, List<TeamMemberResponseDto> members) {
+        return TeamResponseDto.builder()
+                .id(team.id())
+                .teamName(team.teamName())
+                .description(team.description())
+                .createDate(team.createDate())
+                .modifyDate(team.modifyDate())
+                .members(members)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.tododuk.domain.team.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamStatsDto {
+    private long total;
+    private long completed;
+    private long overdue;
+    private long inProgress;
+    private long completionRate;
+    private LocalDateTime calculatedAt; // 마감 초과 판단 기준 시각
+    private List<PriorityStats> byPriority;
+    private List<TodoListStats> byList;
+    private List<MemberStats> byMember;
+
+    public record PriorityStats(int priority, long total, long completed, long overdue) {
+    }
+
+    public record TodoListStats(int todoListId, String name, long total, long completed, long overdue) {
+    }
+
+    public record MemberStats(int userId, String nickname, long total, long completed, long overdue) {
+    }
+}
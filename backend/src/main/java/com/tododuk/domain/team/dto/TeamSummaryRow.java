@@ -0,0 +1,13 @@
+package com.tododuk.domain.team.dto;
+
+import java.time.LocalDateTime;
+
+// 내 팀 목록 조회 쿼리 결과 (멤버 정보 제외)
+public record TeamSummaryRow(
+        Integer id,
+        String teamName,
+        String description,
+        LocalDateTime createDate,
+        LocalDateTime modifyDate
+) {
+}
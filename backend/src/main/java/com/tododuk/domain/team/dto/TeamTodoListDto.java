@@ -0,0 +1,30 @@
+package com.tododuk.domain.team.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// 팀 할일 목록 조회 응답 (todoCount/completedCount는 includeCounts=true일 때만 포함)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TeamTodoListDto(
+        int id,
+        String name,
+        String description,
+        Integer userId,
+        Integer teamId,
+        LocalDateTime createDate,
+        LocalDateTime modifyDate,
+        Long todoCount,
+        Long completedCount
+) {
+    // JPQL 생성자 표현식용
+    public TeamTodoListDto(int id, String name, String description, Integer userId, Integer teamId,
+                           LocalDateTime createDate, LocalDateTime modifyDate) {
+        this(id, name, description, userId, teamId, createDate, modifyDate, null, null);
+    }
+
+    public TeamTodoListDto withCounts(long todoCount, long completedCount) {
+        return new TeamTodoListDto(id, name, description, userId, teamId, createDate, modifyDate,
+                todoCount, completedCount);
+    }
+}
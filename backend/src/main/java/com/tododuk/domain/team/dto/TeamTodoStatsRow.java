@@ -0,0 +1,12 @@
+package com.tododuk.domain.team.dto;
+
+// 팀 통계 집계 쿼리 결과 (할일 목록 x 우선순위 단위)
+public record TeamTodoStatsRow(
+        Integer todoListId,
+        String todoListName,
+        Integer priority,
+        Long total,
+        Long completed,
+        Long overdue
+) {
+}
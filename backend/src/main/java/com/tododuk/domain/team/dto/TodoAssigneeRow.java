@@ -0,0 +1,15 @@
+package com.tododuk.domain.team.dto;
+
+import com.tododuk.domain.team.entity.TodoAssignment;
+
+import java.time.LocalDateTime;
+
+// 할일별 담당자 기록 조회 결과 (여러 할일의 담당자를 한 번에 조회할 때 사용)
+public record TodoAssigneeRow(
+        Integer todoId,
+        Integer userId,
+        String nickname,
+        TodoAssignment.AssignmentStatus status,
+        LocalDateTime assignedAt
+) {
+}
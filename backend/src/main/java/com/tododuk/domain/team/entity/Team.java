@@ -7,6 +7,7 @@ import com.tododuk.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,6 +19,9 @@ public class Team extends BaseEntity {
     private String teamName;
     private String description;
 
+    // 비동기 삭제 중인 팀 표시 (null이 아니면 조회에서 제외)
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TeamMember> members = new ArrayList<>();
 
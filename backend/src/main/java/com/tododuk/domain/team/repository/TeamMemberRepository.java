@@ -2,8 +2,12 @@
 package com.tododuk.domain.team.repository;
 
 import com.tododuk.domain.team.constant.TeamRoleType;
+import com.tododuk.domain.team.dto.TeamMemberResponseDto;
 import com.tododuk.domain.team.entity.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,4 +29,23 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
     boolean existsByTeam_IdAndUser_UserEmail(int teamId, String userEmail);
 
     long countByTeam_IdAndRole(int teamId, TeamRoleType role);
+
+    // 사용자가 속한 (삭제 중이 아닌) 팀 id 목록
+    @Query("SELECT tm.team.id FROM TeamMember tm WHERE tm.user.id = :userId AND tm.team.deletedAt IS NULL")
+    List<Integer> findActiveTeamIdsByUserId(@Param("userId") int userId);
+
+    // 여러 팀의 멤버 목록을 한 번에 DTO로 조회
+    @Query("""
+            SELECT new com.tododuk.domain.team.dto.TeamMemberResponseDto(
+                tm.id, u.id, u.userEmail, u.nickName, tm.team.id, tm.role, tm.joinedAt, tm.createDate, tm.modifyDate)
+            FROM TeamMember tm JOIN tm.user u
+            WHERE tm.team.id IN :teamIds
+            ORDER BY tm.team.id, tm.id
+            """)
+    List<TeamMemberResponseDto> findMemberDtosByTeamIds(@Param("teamIds") List<Integer> teamIds);
+
+    // 팀 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TeamMember tm WHERE tm.team.id = :teamId")
+    int bulkDeleteByTeamId(@Param("teamId") int teamId);
 }
\ No newline at end of file
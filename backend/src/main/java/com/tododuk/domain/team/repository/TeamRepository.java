@@ -1,23 +1,86 @@
 // project-root/backend/src/main/java/com/tododuk/domain/team/repository/TeamRepository.java
 package com.tododuk.domain.team.repository;
 
+import com.tododuk.domain.team.dto.TeamMemberStatsRow;
+import com.tododuk.domain.team.dto.TeamSummaryRow;
+import com.tododuk.domain.team.dto.TeamTodoStatsRow;
 import com.tododuk.domain.team.entity.Team;
+import com.tododuk.domain.team.entity.TodoAssignment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Integer> {
 
-    @Query("SELECT DISTINCT t FROM Team t JOIN FETCH t.members tm JOIN FETCH tm.user WHERE tm.user.id = :userId")
+    @Query("SELECT DISTINCT t FROM Team t JOIN FETCH t.members tm JOIN FETCH tm.user WHERE tm.user.id = :userId AND t.deletedAt IS NULL")
     List<Team> findTeamsByUserId(@Param("userId") int userId);
 
-    @Query("SELECT t FROM Team t JOIN FETCH t.members tm JOIN FETCH tm.user WHERE t.id = :teamId")
+    @Query("SELECT t FROM Team t JOIN FETCH t.members tm JOIN FETCH tm.user WHERE t.id = :teamId AND t.deletedAt IS NULL")
     Optional<Team> findByIdWithMembers(@Param("teamId") int teamId);
 
     boolean existsByIdAndMembers_UserId(int teamId, int userId);
+
+    // 내 팀 목록 (멤버 정보는 TeamMemberRepository.findMemberDtosByTeamIds로 한 번에 조회)
+    @Query("""
+            SELECT new com.tododuk.domain.team.dto.TeamSummaryRow(t.id, t.teamName, t.description, t.createDate, t.modifyDate)
+            FROM Team t
+            WHERE t.deletedAt IS NULL
+              AND t.id IN (SELECT tm.team.id FROM TeamMember tm WHERE tm.user.id = :userId)
+            ORDER BY t.id
+            """)
+    List<TeamSummaryRow> findTeamSummariesByUserId(@Param("userId") int userId);
+
+    // 삭제 표시되지 않은 팀만 조회
+    Optional<Team> findByIdAndDeletedAtIsNull(int teamId);
+
+    boolean existsByIdAndDeletedAtIsNull(int teamId);
+
+    List<Team> findAllByDeletedAtIsNull();
+
+    // 삭제 표시는 됐지만 아직 정리되지 않은 팀 (비동기 삭제 재개용)
+    @Query("SELECT t.id FROM Team t WHERE t.deletedAt IS NOT NULL ORDER BY t.deletedAt")
+    List<Integer> findDeletedTeamIds();
+
+    // 비동기 삭제 시작 표시 (이미 삭제 중이면 0 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Team t SET t.deletedAt = :now WHERE t.id = :teamId AND t.deletedAt IS NULL")
+    int markDeleted(@Param("teamId") int teamId, @Param("now") LocalDateTime now);
+
+    // 팀 일괄 삭제용 (하위 테이블을 먼저 지운 뒤 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Team t WHERE t.id = :teamId")
+    int bulkDeleteById(@Param("teamId") int teamId);
+
+    // 팀 할일 통계: 할일 목록 x 우선순위 단위로 한 번에 집계 (할일이 없는 목록도 포함)
+    @Query("""
+            SELECT new com.tododuk.domain.team.dto.TeamTodoStatsRow(
+                l.id, l.name, t.priority, COUNT(t),
+                COALESCE(SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), 0),
+                COALESCE(SUM(CASE WHEN t.isCompleted = false AND t.dueDate < :now THEN 1 ELSE 0 END), 0))
+            FROM TodoList l LEFT JOIN l.todo t
+            WHERE l.team.id = :teamId
+            GROUP BY l.id, l.name, t.priority
+            """)
+    List<TeamTodoStatsRow> aggregateTodoStats(@Param("teamId") int teamId, @Param("now") LocalDateTime now);
+
+    // 팀 할일 통계: 활성 담당자 단위 집계
+    @Query("""
+            SELECT new com.tododuk.domain.team.dto.TeamMemberStatsRow(
+                u.id, u.nickName, COUNT(t),
+                COALESCE(SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), 0),
+                COALESCE(SUM(CASE WHEN t.isCompleted = false AND t.dueDate < :now THEN 1 ELSE 0 END), 0))
+            FROM TodoAssignment a JOIN a.assignedUser u JOIN a.todo t
+            WHERE a.team.id = :teamId AND a.status = :status
+            GROUP BY u.id, u.nickName
+            """)
+    List<TeamMemberStatsRow> aggregateAssigneeStats(@Param("teamId") int teamId,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("status") TodoAssignment.AssignmentStatus status);
 }
\ No newline at end of file
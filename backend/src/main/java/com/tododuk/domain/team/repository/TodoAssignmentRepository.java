@@ -1,7 +1,9 @@
 package com.tododuk.domain.team.repository;
 
+import com.tododuk.domain.team.dto.TodoAssigneeRow;
 import com.tododuk.domain.team.entity.TodoAssignment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -34,4 +36,28 @@ public interface TodoAssignmentRepository extends JpaRepository<TodoAssignment,
     
     // 특정 팀의 모든 담당자 기록 삭제
     void deleteByTeam_Id(int teamId);
+
+    // 여러 할일의 담당자 기록을 한 번에 조회
+    @Query("""
+            SELECT new com.tododuk.domain.team.dto.TodoAssigneeRow(a.todo.id, u.id, u.nickName, a.status, a.assignedAt)
+            FROM TodoAssignment a JOIN a.assignedUser u
+            WHERE a.todo.id IN :todoIds
+            ORDER BY a.todo.id, a.assignedAt DESC
+            """)
+    List<TodoAssigneeRow> findAssigneeRowsByTodoIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 팀 분할 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoAssignment a WHERE a.todo.id IN :todoIds")
+    int bulkDeleteByTodoIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 팀 일괄 삭제용 (팀 기록 + 팀 목록에 속한 할일의 기록)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoAssignment a WHERE a.team.id = :teamId OR a.todo.id IN (SELECT t.id FROM Todo t WHERE t.todoList.team.id = :teamId)")
+    int bulkDeleteByTeamId(@Param("teamId") int teamId);
+
+    // 할일 목록 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoAssignment a WHERE a.todo.id IN (SELECT t.id FROM Todo t WHERE t.todoList.id = :todoListId)")
+    int bulkDeleteByTodoListId(@Param("todoListId") int todoListId);
 } 
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.tododuk.domain.team.service;
+
+import com.tododuk.domain.reminder.repository.ReminderRepository;
+import com.tododuk.domain.team.dto.CascadeDeleteResultDto;
+import com.tododuk.domain.team.repository.TeamMemberRepository;
+import com.tododuk.domain.team.repository.TeamRepository;
+import com.tododuk.domain.team.repository.TodoAssignmentRepository;
+import com.tododuk.domain.todo.repository.TodoRepository;
+import com.tododuk.domain.todo.service.TodoSearchIndex;
+import com.tododuk.domain.todoLabel.repository.TodoLabelRepository;
+import com.tododuk.domain.todoList.repository.TodoListRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 팀/할일 목록 일괄 삭제 (엔티티를 로딩하지 않고 테이블 단위 DELETE 실행)
+// 권한 확인은 호출하는 쪽에서 처리하고, FK 순서(자식 -> 부모)대로 삭제한다.
+@Service
+@RequiredArgsConstructor
+public class TeamCascadeDeleteService {
+
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TodoAssignmentRepository todoAssignmentRepository;
+    private final TodoLabelRepository todoLabelRepository;
+    private final ReminderRepository reminderRepository;
+    private final TodoRepository todoRepository;
+    private final TodoListRepository todoListRepository;
+    private final TodoSearchIndex todoSearchIndex;
+
+    @Transactional
+    public CascadeDeleteResultDto deleteTeam(int teamId) {
+        int todoAssignments = todoAssignmentRepository.bulkDeleteByTeamId(teamId);
+        int todoLabels = todoLabelRepository.bulkDeleteByTeamId(teamId);
+        int reminders = reminderRepository.bulkDeleteByTeamId(teamId);
+        int todos = todoRepository.bulkDeleteByTeamId(teamId);
+        int todoLists = todoListRepository.bulkDeleteByTeamId(teamId);
+        int teamMembers = teamMemberRepository.bulkDeleteByTeamId(teamId);
+        int teams = teamRepository.bulkDeleteById(teamId);
+        todoSearchIndex.deleteByTeam(teamId);
+
+        return new CascadeDeleteResultDto(
+                todoAssignments, todoLabels, reminders, todos, todoLists, teamMembers, teams);
+    }
+
+    @Transactional
+    public CascadeDeleteResultDto deleteTodoList(int todoListId) {
+        int todoAssignments = todoAssignmentRepository.bulkDeleteByTodoListId(todoListId);
+        int todoLabels = todoLabelRepository.bulkDeleteByTodoListId(todoListId);
+        int reminders = reminderRepository.bulkDeleteByTodoListId(todoListId);
+        int todos = todoRepository.bulkDeleteByTodoListId(todoListId);
+        int todoLists = todoListRepository.bulkDeleteById(todoListId);
+        todoSearchIndex.deleteByTodoList(todoListId);
+
+        return new CascadeDeleteResultDto(
+                todoAssignments, todoLabels, reminders, todos, todoLists, 0, 0);
+    }
+}
@@ -0,0 +1,249 @@
+package com.tododuk.domain.team.service;
+
+import com.tododuk.domain.reminder.repository.ReminderRepository;
+import com.tododuk.domain.team.dto.CascadeDeleteResultDto;
+import com.tododuk.domain.team.dto.TeamDeletionJobDto;
+import com.tododuk.domain.team.repository.TeamRepository;
+import com.tododuk.domain.team.repository.TodoAssignmentRepository;
+import com.tododuk.domain.todo.repository.TodoRepository;
+import com.tododuk.domain.todoLabel.repository.TodoLabelRepository;
+import com.tododuk.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 팀 비동기 삭제 작업 (할일을 청크 단위 트랜잭션으로 나눠 지우고 진행 상황을 메모리에 보관)
+// 청크 삭제는 몇 번을 다시 돌려도 같은 결과라, 실행 대기열이 가득 찼거나 실패/재시작으로 끊긴 팀은
+// 시작 시점과 주기적인 정리 작업에서 삭제 표시(deletedAt)가 남은 팀을 찾아 이어서 지운다.
+@Service
+@Slf4j
+public class TeamDeletionJobService {
+
+    private final TeamRepository teamRepository;
+    private final TodoRepository todoRepository;
+    private final TodoAssignmentRepository todoAssignmentRepository;
+    private final TodoLabelRepository todoLabelRepository;
+    private final ReminderRepository reminderRepository;
+    private final TeamCascadeDeleteService teamCascadeDeleteService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor teamDeletionExecutor;
+    private final int chunkSize;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // 같은 팀을 두 스레드가 동시에 지우지 않도록 실행 중인 팀 id 보관
+    private final Set<Integer> runningTeamIds = ConcurrentHashMap.newKeySet();
+
+    public TeamDeletionJobService(
+            TeamRepository teamRepository,
+            TodoRepository todoRepository,
+            TodoAssignmentRepository todoAssignmentRepository,
+            TodoLabelRepository todoLabelRepository,
+            ReminderRepository reminderRepository,
+            TeamCascadeDeleteService teamCascadeDeleteService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("teamDeletionExecutor") ThreadPoolTaskExecutor teamDeletionExecutor,
+            @Value("${custom.teamDeletion.chunkSize:500}") int chunkSize
+    ) {
+        this.teamRepository = teamRepository;
+        this.todoRepository = todoRepository;
+        this.todoAssignmentRepository = todoAssignmentRepository;
+        this.todoLabelRepository = todoLabelRepository;
+        this.reminderRepository = reminderRepository;
+        this.teamCascadeDeleteService = teamCascadeDeleteService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.teamDeletionExecutor = teamDeletionExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    // 삭제 작업 등록 (호출한 트랜잭션이 커밋된 뒤에 실행)
+    // 실행 대기열이 가득 차도 요청은 이미 커밋됐으므로 실패시키지 않고 정리 작업(resumeDeletedTeams)에 맡긴다.
+    public TeamDeletionJobDto submit(int teamId, int requesterUserId) {
+        Job job = new Job(UUID.randomUUID().toString(), teamId, requesterUserId);
+        jobs.put(job.jobId, job);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(job);
+                }
+            });
+        } else {
+            dispatch(job);
+        }
+
+        return job.toDto();
+    }
+
+    public TeamDeletionJobDto getJob(String jobId, int requesterUserId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ServiceException("404-JOB_NOT_FOUND", "삭제 작업을 찾을 수 없습니다.");
+        }
+        if (job.requesterUserId != requesterUserId) {
+            throw new ServiceException("403-FORBIDDEN", "삭제를 요청한 사용자만 조회할 수 있습니다.");
+        }
+        return job.toDto();
+    }
+
+    // 끝난 작업은 1시간 동안만 조회 가능
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    // 서버 시작 직후 한 번, 이후 주기적으로 삭제 표시만 남은 팀을 이어서 정리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeDeletedTeams();
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.teamDeletion.sweepIntervalMs:300000}",
+            fixedDelayString = "${custom.teamDeletion.sweepIntervalMs:300000}"
+    )
+    public void resumeDeletedTeams() {
+        for (int teamId : teamRepository.findDeletedTeamIds()) {
+            if (runningTeamIds.contains(teamId)) {
+                continue;
+            }
+            // 요청자가 조회 중인 작업이 있으면 그 작업을 이어서 진행 (재시작 후에는 새 작업)
+            Job job = jobs.values().stream()
+                    .filter(candidate -> candidate.teamId == teamId && !"COMPLETED".equals(candidate.status))
+                    .findFirst()
+                    .orElseGet(() -> new Job(UUID.randomUUID().toString(), teamId, 0));
+            if (!dispatch(job)) {
+                // 대기열이 가득 찼으면 나머지는 다음 주기에
+                return;
+            }
+        }
+    }
+
+    private boolean dispatch(Job job) {
+        try {
+            teamDeletionExecutor.execute(() -> run(job));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("팀 삭제 대기열이 가득 차 다음 정리 주기에 다시 시도합니다. teamId: {}", job.teamId);
+            return false;
+        }
+    }
+
+    private void run(Job job) {
+        int teamId = job.teamId;
+        // 같은 작업이 정리 작업으로 한 번 더 등록됐을 수 있음
+        if ("COMPLETED".equals(job.status) || !runningTeamIds.add(teamId)) {
+            return;
+        }
+
+        job.status = "RUNNING";
+        job.errorMessage = null;
+        job.finishedAt = null;
+        job.totalTodos = job.deletedTodos + todoRepository.countByTodoListTeamId(teamId);
+
+        try {
+            // 1. 할일과 하위 레코드를 청크 단위로 삭제 (청크마다 별도 트랜잭션)
+            while (true) {
+                int[] deleted = transactionTemplate.execute(status -> deleteTodoChunk(teamId));
+                if (deleted == null || deleted[3] == 0) {
+                    break;
+                }
+                job.todoAssignments += deleted[0];
+                job.todoLabels += deleted[1];
+                job.reminders += deleted[2];
+                job.deletedTodos += deleted[3];
+            }
+
+            // 2. 남은 담당자 기록/목록/멤버/팀 삭제
+            CascadeDeleteResultDto rest = teamCascadeDeleteService.deleteTeam(teamId);
+            job.result = new CascadeDeleteResultDto(
+                    job.todoAssignments + rest.todoAssignments(),
+                    job.todoLabels + rest.todoLabels(),
+                    job.reminders + rest.reminders(),
+                    (int) job.deletedTodos + rest.todos(),
+                    rest.todoLists(),
+                    rest.teamMembers(),
+                    rest.teams());
+            job.status = "COMPLETED";
+        } catch (Exception e) {
+            log.error("팀 비동기 삭제 실패. teamId: {}", teamId, e);
+            job.errorMessage = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            runningTeamIds.remove(teamId);
+        }
+    }
+
+    // [담당자, 라벨, 리마인더, 할일] 삭제 건수
+    private int[] deleteTodoChunk(int teamId) {
+        List<Integer> todoIds = todoRepository.findIdsByTeamId(teamId, PageRequest.of(0, chunkSize));
+        if (todoIds.isEmpty()) {
+            return new int[4];
+        }
+
+        return new int[]{
+                todoAssignmentRepository.bulkDeleteByTodoIds(todoIds),
+                todoLabelRepository.bulkDeleteByTodoIds(todoIds),
+                reminderRepository.bulkDeleteByTodoIds(todoIds),
+                todoRepository.bulkDeleteByIds(todoIds)
+        };
+    }
+
+    // 작업 상태는 실행 스레드만 쓰고 조회 스레드는 읽기만 한다
+    private static class Job {
+        private final String jobId;
+        private final int teamId;
+        private final int requesterUserId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private volatile String status = "PENDING";
+        private volatile long totalTodos;
+        private volatile long deletedTodos;
+        private volatile int todoAssignments;
+        private volatile int todoLabels;
+        private volatile int reminders;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+        private volatile CascadeDeleteResultDto result;
+
+        private Job(String jobId, int teamId, int requesterUserId) {
+            this.jobId = jobId;
+            this.teamId = teamId;
+            this.requesterUserId = requesterUserId;
+        }
+
+        private TeamDeletionJobDto toDto() {
+            int progress;
+            if ("COMPLETED".equals(status)) {
+                progress = 100;
+            } else if (totalTodos > 0) {
+                // 목록/팀 삭제 단계가 남아 있으므로 99%까지만 표시
+                progress = (int) Math.min(99, deletedTodos * 100 / totalTodos);
+            } else {
+                progress = 0;
+            }
+
+            return new TeamDeletionJobDto(jobId, teamId, status, totalTodos, deletedTodos, progress,
+                    requestedAt, finishedAt, errorMessage, result);
+        }
+    }
+}
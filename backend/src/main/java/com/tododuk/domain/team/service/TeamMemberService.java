@@ -61,7 +61,7 @@ public class TeamMemberService {
             throw new ServiceException("403-NO_PERMISSION", "팀 멤버를 추가할 권한이 없습니다.");
         }
 
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId));
 
         // 이메일로 사용자 찾기
@@ -87,7 +87,7 @@ public class TeamMemberService {
     // 4. 팀 멤버 역할 변경 (이메일 기반)
     @Transactional
     public RsData<TeamMemberResponseDto> updateTeamMemberRole(int teamId, int userId, TeamRoleType newRole, int requesterUserId) {
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId));
 
         if (!teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, requesterUserId, TeamRoleType.LEADER)) {
@@ -104,7 +104,7 @@ public class TeamMemberService {
     // 5. 팀 멤버 삭제
     @Transactional
     public RsData<Void> deleteTeamMember(int teamId, int memberUserIdToRemove, int removerUserId) {
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId));
 
         if (!teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, removerUserId, TeamRoleType.LEADER)) {
@@ -9,13 +9,21 @@ import com.tododuk.domain.user.entity.User;
 import com.tododuk.domain.user.repository.UserRepository;
 import com.tododuk.global.rsData.RsData;
 import com.tododuk.global.exception.ServiceException;
+import com.tododuk.domain.team.dto.CascadeDeleteResultDto;
 import com.tododuk.domain.team.dto.TeamCreateRequestDto;
+import com.tododuk.domain.team.dto.TeamDeletionJobDto;
 import com.tododuk.domain.team.dto.TeamResponseDto;
+import com.tododuk.domain.team.dto.TeamStatsDto;
+import com.tododuk.domain.team.dto.TeamSummaryRow;
+import com.tododuk.domain.team.dto.TeamTodoListDto;
+import com.tododuk.domain.todoList.dto.TodoListCountRow;
 import com.tododuk.domain.team.dto.TeamMemberResponseDto;
 import com.tododuk.domain.team.dto.TeamMemberAddRequestDto;
 import com.tododuk.domain.team.dto.TeamMemberUpdateRequestDto;
 import com.tododuk.domain.team.dto.TeamUpdateRequestDto;
 import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todo.event.TodoChangedEvent;
+import com.tododuk.domain.todo.event.TodoSnapshot;
 import com.tododuk.domain.todo.repository.TodoRepository;
 import com.tododuk.domain.todoList.entity.TodoList;
 import com.tododuk.domain.todoList.repository.TodoListRepository;
@@ -23,6 +31,9 @@ import com.tododuk.domain.team.entity.TodoAssignment;
 import com.tododuk.domain.team.repository.TodoAssignmentRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,6 +59,13 @@ public class TeamService {
     private final TodoRepository todoRepository;
     private final TodoListRepository todoListRepository;
     private final TodoAssignmentRepository todoAssignmentRepository;
+    private final TeamStatsService teamStatsService;
+    private final TeamStatsCounterService teamStatsCounterService;
+    private final TeamCascadeDeleteService teamCascadeDeleteService;
+    private final TeamDeletionJobService teamDeletionJobService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_TODO_LIST_PAGE_SIZE = 100;
 
     // 1. 팀 생성
     @Transactional
@@ -78,19 +96,20 @@ public class TeamService {
 
     // 2. 사용자가 속한 팀 목록 조회
     public RsData<List<TeamResponseDto>> getMyTeams(int userId) {
-        List<Team> teams = teamRepository.findTeamsByUserId(userId);
+        List<TeamSummaryRow> teams = teamRepository.findTeamSummariesByUserId(userId);
         
         if (teams.isEmpty()) {
             return RsData.success("속한 팀이 없습니다.", List.of());
         }
         
-        // 각 팀의 멤버 정보를 명시적으로 로드
+        // 모든 팀의 멤버 정보를 한 번에 조회 (팀 수와 무관하게 쿼리 2번)
+        List<Integer> teamIds = teams.stream().map(TeamSummaryRow::id).toList();
+        Map<Integer, List<TeamMemberResponseDto>> membersByTeamId = teamMemberRepository.findMemberDtosByTeamIds(teamIds)
+                .stream()
+                .collect(Collectors.groupingBy(TeamMemberResponseDto::getTeamId));
+
         List<TeamResponseDto> teamResponseDtos = teams.stream()
-                .map(team -> {
-                    // 팀의 멤버 정보를 명시적으로 로드
-                    Team teamWithMembers = teamRepository.findByIdWithMembers(team.getId()).orElse(team);
-                    return TeamResponseDto.from(teamWithMembers);
-                })
+                .map(team -> TeamResponseDto.of(team, membersByTeamId.getOrDefault(team.id(), List.of())))
                 .collect(Collectors.toList());
         
         return RsData.success("팀 목록 조회 성공", teamResponseDtos);
@@ -103,7 +122,7 @@ public class TeamService {
 
     // 모든 팀 목록 조회 (관리자용)
     public List<Team> getAllTeams() {
-        return teamRepository.findAll();
+        return teamRepository.findAllByDeletedAtIsNull();
     }
 
     // 3. 특정 팀 상세 조회
@@ -112,7 +131,7 @@ public class TeamService {
         System.out.println("팀 ID: " + teamId);
         System.out.println("조회자 ID: " + viewerUserId);
         
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId));
 
         boolean isMember = teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, viewerUserId);
@@ -130,7 +149,7 @@ public class TeamService {
     // 4. 팀 정보 수정 (PATCH)
     @Transactional
     public RsData<TeamResponseDto> updateTeamInfo(int teamId, TeamUpdateRequestDto dto, int modifierUserId) {
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId));
 
         if (!teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, modifierUserId, TeamRoleType.LEADER)) {
@@ -144,33 +163,47 @@ public class TeamService {
 
     // 5. 팀 삭제
     @Transactional
-    public RsData<Void> deleteTeam(int teamId, int deleterUserId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId));
+    public RsData<CascadeDeleteResultDto> deleteTeam(int teamId, int deleterUserId) {
+        if (!teamRepository.existsByIdAndDeletedAtIsNull(teamId)) {
+            throw new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId);
+        }
 
         if (!teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, deleterUserId, TeamRoleType.LEADER)) {
             throw new ServiceException("403-NO_PERMISSION", "팀을 삭제할 권한이 없습니다.");
         }
 
-        // 팀과 관련된 모든 TodoAssignment 레코드 삭제
-        todoAssignmentRepository.deleteByTeam_Id(teamId);
-        
-        // 팀과 관련된 모든 TodoList 삭제 (Todo는 cascade로 자동 삭제됨)
-        List<TodoList> teamTodoLists = todoListRepository.findByTeamId(teamId);
-        for (TodoList todoList : teamTodoLists) {
-            // 각 TodoList의 Todo들에 대한 TodoAssignment 레코드들 삭제
-            List<Todo> todos = todoRepository.findByTodoListId(todoList.getId());
-            for (Todo todo : todos) {
-                todoAssignmentRepository.deleteByTodo_Id(todo.getId());
-            }
-            // TodoList 삭제 (Todo는 cascade로 자동 삭제됨)
-            todoListRepository.delete(todoList);
+        // 담당자/라벨/리마인더/할일/목록/멤버/팀 순서로 일괄 삭제
+        CascadeDeleteResultDto result = teamCascadeDeleteService.deleteTeam(teamId);
+        teamStatsCounterService.evict(teamId);
+
+        return RsData.success("팀이 성공적으로 삭제되었습니다.", result);
+    }
+
+    // 팀 비동기 삭제: 즉시 삭제 표시 + 멤버 제거 후 나머지는 백그라운드에서 정리
+    @Transactional
+    public RsData<TeamDeletionJobDto> deleteTeamAsync(int teamId, int deleterUserId) {
+        if (!teamRepository.existsByIdAndDeletedAtIsNull(teamId)) {
+            throw new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다. ID: " + teamId);
         }
-        
-        // 팀 삭제 (TeamMember는 cascade로 자동 삭제됨)
-        teamRepository.delete(team);
-        
-        return RsData.success("팀이 성공적으로 삭제되었습니다.", null);
+
+        if (!teamMemberRepository.existsByTeam_IdAndUser_IdAndRole(teamId, deleterUserId, TeamRoleType.LEADER)) {
+            throw new ServiceException("403-NO_PERMISSION", "팀을 삭제할 권한이 없습니다.");
+        }
+
+        if (teamRepository.markDeleted(teamId, LocalDateTime.now()) == 0) {
+            throw new ServiceException("409-TEAM_DELETING", "이미 삭제 중인 팀입니다.");
+        }
+
+        // 멤버를 먼저 지워 팀 멤버 권한 확인이 바로 실패하도록 함
+        teamMemberRepository.bulkDeleteByTeamId(teamId);
+        teamStatsCounterService.evict(teamId);
+
+        return RsData.success("팀 삭제 작업이 시작되었습니다.", teamDeletionJobService.submit(teamId, deleterUserId));
+    }
+
+    // 팀 비동기 삭제 작업 진행 상황 조회
+    public RsData<TeamDeletionJobDto> getTeamDeletionJob(String jobId, int userId) {
+        return RsData.success("팀 삭제 작업 조회 성공", teamDeletionJobService.getJob(jobId, userId));
     }
 
     // 6. 팀 할일 목록 조회
@@ -186,7 +219,7 @@ public class TeamService {
                 // 없으면 새로 생성
                 User user = userRepository.findById(userId)
                     .orElseThrow(() -> new ServiceException("404-USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
-                Team team = teamRepository.findById(teamId)
+                Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                     .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
                 
                 TodoList newList = new TodoList(
@@ -236,7 +269,7 @@ public class TeamService {
                 // 없으면 새로 생성
                 User user = userRepository.findById(userId)
                     .orElseThrow(() -> new ServiceException("404-USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
-                Team team = teamRepository.findById(teamId)
+                Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                     .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
                 
                 TodoList newList = new TodoList(
@@ -263,6 +296,7 @@ public class TeamService {
 
         // DB에 저장
         Todo savedTodo = todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.created(TodoSnapshot.of(savedTodo)));
 
         // Map 형태로 변환하여 반환
         Map<String, Object> newTodo = new HashMap<>();
@@ -280,35 +314,40 @@ public class TeamService {
     }
 
     // 팀별 할일 목록 조회
-    public RsData<List<Map<String, Object>>> getTeamTodoLists(int teamId, int userId) {
+    public RsData<List<TeamTodoListDto>> getTeamTodoLists(int teamId, int userId, int page, int size, boolean includeCounts) {
         // 팀 멤버 확인
-        TeamMember member = teamMemberRepository.findByTeam_IdAndUser_Id(teamId, userId)
-                .orElseThrow(() -> new ServiceException("403-FORBIDDEN", "해당 팀의 멤버가 아닙니다."));
+        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId)) {
+            throw new ServiceException("403-FORBIDDEN", "해당 팀의 멤버가 아닙니다.");
+        }
 
-        // 팀 객체 조회
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
+        // 팀 존재 확인
+        if (!teamRepository.existsByIdAndDeletedAtIsNull(teamId)) {
+            throw new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다.");
+        }
 
-        // 해당 팀의 할일 목록 조회 (TodoList 엔티티에서 team 필드로 조회)
-        List<TodoList> todoLists = todoListRepository.findAll().stream()
-                .filter(todoList -> todoList.getTeam() != null && todoList.getTeam().getId() == teamId)
-                .collect(Collectors.toList());
+        // team_id 인덱스를 타는 페이지 조회 (id 오름차순)
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_TODO_LIST_PAGE_SIZE),
+                Sort.by("id"));
+        List<TeamTodoListDto> todoLists = todoListRepository.findTeamTodoListDtos(teamId, pageRequest);
 
-        List<Map<String, Object>> response = todoLists.stream()
-                .map(todoList -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("id", todoList.getId());
-                    map.put("name", todoList.getName());
-                    map.put("description", todoList.getDescription());
-                    map.put("userId", todoList.getUser().getId());
-                    map.put("teamId", todoList.getTeam().getId());
-                    map.put("createDate", todoList.getCreateDate());
-                    map.put("modifyDate", todoList.getModifyDate());
-                    return map;
-                })
-                .collect(Collectors.toList());
+        if (includeCounts && !todoLists.isEmpty()) {
+            // 목록별 할일/완료 건수를 그룹 쿼리 한 번으로 붙임
+            Map<Integer, TodoListCountRow> counts = todoRepository.countByTodoListIds(
+                            todoLists.stream().map(TeamTodoListDto::id).toList())
+                    .stream()
+                    .collect(Collectors.toMap(TodoListCountRow::todoListId, row -> row));
 
-        return RsData.success("팀 할일 목록 조회 성공", response);
+            todoLists = todoLists.stream()
+                    .map(todoList -> {
+                        TodoListCountRow count = counts.get(todoList.id());
+                        return count == null
+                                ? todoList.withCounts(0, 0)
+                                : todoList.withCounts(count.todoCount(), count.completedCount());
+                    })
+                    .toList();
+        }
+
+        return RsData.success("팀 할일 목록 조회 성공", todoLists);
     }
 
     // 팀 할일 목록 생성
@@ -321,7 +360,7 @@ public class TeamService {
         // 사용자와 팀 객체 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ServiceException("404-USER_NOT_FOUND", "사용자를 찾을 수 없습니다."));
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
 
         TodoList todoList = new TodoList();
@@ -376,7 +415,7 @@ public class TeamService {
 
     // 팀 할일 목록 삭제
     @Transactional
-    public RsData<Void> deleteTeamTodoList(int teamId, int todoListId, int userId) {
+    public RsData<CascadeDeleteResultDto> deleteTeamTodoList(int teamId, int todoListId, int userId) {
         // 팀 멤버 확인
         TeamMember member = teamMemberRepository.findByTeam_IdAndUser_Id(teamId, userId)
                 .orElseThrow(() -> new ServiceException("403-FORBIDDEN", "해당 팀의 멤버가 아닙니다."));
@@ -389,14 +428,10 @@ public class TeamService {
             throw new ServiceException("403-FORBIDDEN", "해당 팀의 할일 목록이 아닙니다.");
         }
 
-        // TodoList 삭제 전에 관련된 모든 Todo의 TodoAssignment 레코드들 삭제
-        List<Todo> todos = todoRepository.findByTodoListId(todoListId);
-        for (Todo todo : todos) {
-            todoAssignmentRepository.deleteByTodo_Id(todo.getId());
-        }
-
-        todoListRepository.delete(todoList);
-        return RsData.success("할일 목록이 성공적으로 삭제되었습니다.");
+        // 담당자/라벨/리마인더/할일/목록 순서로 일괄 삭제
+        CascadeDeleteResultDto result = teamCascadeDeleteService.deleteTodoList(todoListId);
+        teamStatsCounterService.evict(teamId);
+        return RsData.success("할일 목록이 성공적으로 삭제되었습니다.", result);
     }
 
     // 팀 할일 목록별 할일 조회
@@ -469,6 +504,7 @@ public class TeamService {
         }
         
         todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.created(TodoSnapshot.of(todo)));
 
         Map<String, Object> response = new HashMap<>();
         response.put("id", todo.getId());
@@ -500,6 +536,7 @@ public class TeamService {
             throw new ServiceException("403-FORBIDDEN", "해당 팀의 할일이 아닙니다.");
         }
 
+        TodoSnapshot before = TodoSnapshot.of(todo);
         todo.setTitle((String) todoRequest.get("title"));
         todo.setDescription((String) todoRequest.get("description"));
         todo.setPriority((Integer) todoRequest.get("priority"));
@@ -518,6 +555,7 @@ public class TeamService {
         }
         
         todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.updated(before, TodoSnapshot.of(todo)));
 
         Map<String, Object> response = new HashMap<>();
         response.put("id", todo.getId());
@@ -575,7 +613,9 @@ public class TeamService {
             todoAssignmentRepository.deleteByTodo_Id(todoId);
             System.out.println("TodoAssignment 레코드 삭제 완료");
 
+            TodoSnapshot before = TodoSnapshot.of(todo);
             todoRepository.delete(todo);
+            eventPublisher.publishEvent(TodoChangedEvent.deleted(before));
             System.out.println("할일 삭제 완료");
             return RsData.success("할일이 성공적으로 삭제되었습니다.");
         } catch (ServiceException e) {
@@ -603,8 +643,10 @@ public class TeamService {
             throw new ServiceException("403-FORBIDDEN", "해당 팀의 할일이 아닙니다.");
         }
 
+        TodoSnapshot before = TodoSnapshot.of(todo);
         todo.setCompleted(!todo.isCompleted());
         todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.updated(before, TodoSnapshot.of(todo)));
 
         Map<String, Object> response = new HashMap<>();
         response.put("id", todo.getId());
@@ -648,7 +690,7 @@ public class TeamService {
         User assignedUser = userRepository.findById(assignedUserId)
                 .orElseThrow(() -> new ServiceException("404-USER_NOT_FOUND", "담당자로 지정할 사용자를 찾을 수 없습니다."));
 
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
 
         // 기존 활성 담당자 비활성화
@@ -850,7 +892,7 @@ public class TeamService {
             throw new ServiceException("403-FORBIDDEN", "해당 팀의 할일이 아닙니다.");
         }
 
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdAndDeletedAtIsNull(teamId)
                 .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
 
         // 기존 활성 담당자들 조회
@@ -935,55 +977,27 @@ public class TeamService {
         return RsData.success("담당자들이 성공적으로 지정되었습니다.", response);
     }
 
-    // 팀 할일 통계 조회
-    public RsData<Map<String, Object>> getTeamStats(int teamId, int userId) {
+    // 팀 할일 통계 조회 (메모리 카운터 기반 요약)
+    public RsData<TeamStatsDto> getTeamStats(int teamId, int userId) {
+        checkTeamStatsAccess(teamId, userId);
+        return RsData.success("팀 통계 조회 성공", teamStatsCounterService.getStats(teamId));
+    }
+
+    // 팀 할일 통계 상세 조회 (now: 마감 초과 판단 기준 시각)
+    public RsData<TeamStatsDto> getTeamStats(int teamId, int userId, LocalDateTime now) {
+        checkTeamStatsAccess(teamId, userId);
+        return RsData.success("팀 통계 조회 성공", teamStatsService.calculate(teamId, now));
+    }
+
+    private void checkTeamStatsAccess(int teamId, int userId) {
         // 권한 확인
         if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId)) {
             throw new ServiceException("403-FORBIDDEN", "팀 멤버만 접근할 수 있습니다.");
         }
 
         // 팀 존재 확인
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다."));
-
-        // 팀의 모든 TodoList 조회 (팀 ID로 조회하는 메서드가 없으므로 모든 TodoList를 가져와서 필터링)
-        List<TodoList> allTodoLists = todoListRepository.findAll();
-        List<TodoList> teamTodoLists = allTodoLists.stream()
-                .filter(todoList -> todoList.getTeam() != null && todoList.getTeam().getId() == teamId)
-                .collect(Collectors.toList());
-        
-        int totalTodos = 0;
-        int completedTodos = 0;
-        int overdueTodos = 0;
-
-        // 각 TodoList의 할일들 조회하여 통계 계산
-        for (TodoList todoList : teamTodoLists) {
-            List<Todo> todos = todoRepository.findByTodoListId(todoList.getId());
-            
-            for (Todo todo : todos) {
-                totalTodos++;
-                
-                if (todo.isCompleted()) {
-                    completedTodos++;
-                }
-                
-                // 마감기한이 지난 미완료 할일 체크
-                if (!todo.isCompleted() && todo.getDueDate() != null) {
-                    LocalDateTime now = LocalDateTime.now();
-                    if (todo.getDueDate().isBefore(now)) {
-                        overdueTodos++;
-                    }
-                }
-            }
+        if (!teamRepository.existsByIdAndDeletedAtIsNull(teamId)) {
+            throw new ServiceException("404-TEAM_NOT_FOUND", "팀을 찾을 수 없습니다.");
         }
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total", totalTodos);
-        stats.put("completed", completedTodos);
-        stats.put("overdue", overdueTodos);
-        stats.put("inProgress", totalTodos - completedTodos - overdueTodos);
-        stats.put("completionRate", totalTodos > 0 ? Math.round((double) completedTodos / totalTodos * 100) : 0);
-
-        return RsData.success("팀 통계 조회 성공", stats);
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.tododuk.domain.team.service;
+
+import com.tododuk.domain.team.dto.TeamStatsDto;
+import com.tododuk.domain.todo.event.TodoChangedEvent;
+import com.tododuk.domain.todo.event.TodoSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 팀별 할일 통계 카운터 (메모리 보관, Todo 변경 시 증감)
+// 마감 초과 여부는 카운터 적재 시각(asOf) 기준으로만 판단하고, 주기적인 보정 작업에서 새 시각으로 다시 계산한다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamStatsCounterService {
+
+    private final TeamStatsService teamStatsService;
+    private final Map<Integer, TeamCounters> counters = new ConcurrentHashMap<>();
+
+    // 카운터 조회 (없으면 DB 집계로 적재)
+    public TeamStatsDto getStats(int teamId) {
+        TeamCounters teamCounters = counters.get(teamId);
+
+        if (teamCounters == null) {
+            teamCounters = load(teamId);
+            TeamCounters existing = counters.putIfAbsent(teamId, teamCounters);
+            if (existing != null) {
+                teamCounters = existing;
+            }
+        }
+
+        return teamCounters.toDto();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        apply(event.before(), -1);
+        apply(event.after(), 1);
+    }
+
+    // 목록/팀 삭제처럼 건별 반영이 어려운 변경은 카운터를 버리고 다음 조회 때 다시 적재
+    public void evict(Integer teamId) {
+        if (teamId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counters.remove(teamId);
+                }
+            });
+        } else {
+            counters.remove(teamId);
+        }
+    }
+
+    // 누락된 이벤트로 인한 오차를 바로잡고 마감 초과 건수를 현재 시각 기준으로 다시 계산
+    @Scheduled(fixedDelayString = "${custom.teamStats.reconcileIntervalMs:60000}")
+    public void reconcile() {
+        for (Integer teamId : List.copyOf(counters.keySet())) {
+            try {
+                counters.replace(teamId, load(teamId));
+            } catch (Exception e) {
+                log.warn("팀 통계 카운터 보정 실패. teamId: {}", teamId, e);
+            }
+        }
+    }
+
+    private TeamCounters load(int teamId) {
+        LocalDateTime now = LocalDateTime.now();
+        return TeamCounters.from(teamStatsService.summarize(teamId, now), now);
+    }
+
+    private void apply(TodoSnapshot snapshot, int sign) {
+        if (snapshot == null || snapshot.teamId() == null) {
+            return;
+        }
+
+        // 아직 적재되지 않은 팀은 조회 시점에 DB에서 적재하므로 무시
+        TeamCounters teamCounters = counters.get(snapshot.teamId());
+        if (teamCounters != null) {
+            teamCounters.add(snapshot, sign);
+        }
+    }
+
+    private static class TeamCounters {
+        private final LocalDateTime asOf;
+        // [total, completed, overdue]
+        private final LongAdder[] totals = newCounts();
+        private final Map<Integer, LongAdder[]> byPriority = new ConcurrentHashMap<>();
+
+        private TeamCounters(LocalDateTime asOf) {
+            this.asOf = asOf;
+        }
+
+        static TeamCounters from(TeamStatsDto stats, LocalDateTime asOf) {
+            TeamCounters teamCounters = new TeamCounters(asOf);
+            teamCounters.totals[0].add(stats.getTotal());
+            teamCounters.totals[1].add(stats.getCompleted());
+            teamCounters.totals[2].add(stats.getOverdue());
+
+            for (TeamStatsDto.PriorityStats priorityStats : stats.getByPriority()) {
+                LongAdder[] counts = teamCounters.priorityCounts(priorityStats.priority());
+                counts[0].add(priorityStats.total());
+                counts[1].add(priorityStats.completed());
+                counts[2].add(priorityStats.overdue());
+            }
+            return teamCounters;
+        }
+
+        void add(TodoSnapshot snapshot, int sign) {
+            add(totals, snapshot, sign);
+            add(priorityCounts(snapshot.priority()), snapshot, sign);
+        }
+
+        private void add(LongAdder[] counts, TodoSnapshot snapshot, int sign) {
+            counts[0].add(sign);
+            if (snapshot.completed()) {
+                counts[1].add(sign);
+            }
+            if (snapshot.isOverdue(asOf)) {
+                counts[2].add(sign);
+            }
+        }
+
+        private LongAdder[] priorityCounts(int priority) {
+            return byPriority.computeIfAbsent(priority, p -> newCounts());
+        }
+
+        TeamStatsDto toDto() {
+            long total = totals[0].sum();
+            long completed = totals[1].sum();
+            long overdue = totals[2].sum();
+
+            List<TeamStatsDto.PriorityStats> priorityStats = new ArrayList<>();
+            new TreeMap<>(byPriority).forEach((priority, counts) -> {
+                if (counts[0].sum() > 0) {
+                    priorityStats.add(new TeamStatsDto.PriorityStats(
+                            priority, counts[0].sum(), counts[1].sum(), counts[2].sum()));
+                }
+            });
+
+            return TeamStatsDto.builder()
+                    .total(total)
+                    .completed(completed)
+                    .overdue(overdue)
+                    .inProgress(total - completed - overdue)
+                    .completionRate(total > 0 ? Math.round((double) completed / total * 100) : 0)
+                    .calculatedAt(asOf)
+                    .byPriority(priorityStats)
+                    .build();
+        }
+
+        private static LongAdder[] newCounts() {
+            return new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()};
+        }
+    }
+}
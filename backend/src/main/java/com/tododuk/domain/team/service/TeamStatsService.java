@@ -0,0 +1,97 @@
+package com.tododuk.domain.team.service;
+
+import com.tododuk.domain.team.dto.TeamMemberStatsRow;
+import com.tododuk.domain.team.dto.TeamStatsDto;
+import com.tododuk.domain.team.dto.TeamTodoStatsRow;
+import com.tododuk.domain.team.entity.TodoAssignment;
+import com.tododuk.domain.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 팀 할일 통계 집계 엔진 (DB 그룹 집계 결과를 합산만 함)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamStatsService {
+
+    private final TeamRepository teamRepository;
+
+    // 전체 통계 (우선순위/목록/담당자별)
+    public TeamStatsDto calculate(int teamId, LocalDateTime now) {
+        List<TeamMemberStatsRow> memberRows = teamRepository.aggregateAssigneeStats(
+                teamId, now, TodoAssignment.AssignmentStatus.ACTIVE);
+
+        return fold(teamRepository.aggregateTodoStats(teamId, now), memberRows, now);
+    }
+
+    // 요약 통계 (담당자별 집계 생략, 카운터 적재/보정용)
+    public TeamStatsDto summarize(int teamId, LocalDateTime now) {
+        return fold(teamRepository.aggregateTodoStats(teamId, now), List.of(), now);
+    }
+
+    private TeamStatsDto fold(List<TeamTodoStatsRow> rows, List<TeamMemberStatsRow> memberRows, LocalDateTime now) {
+        long total = 0;
+        long completed = 0;
+        long overdue = 0;
+        // [total, completed, overdue]
+        Map<Integer, long[]> priorityCounts = new TreeMap<>();
+        Map<Integer, long[]> listCounts = new LinkedHashMap<>();
+        Map<Integer, String> listNames = new LinkedHashMap<>();
+
+        for (TeamTodoStatsRow row : rows) {
+            listNames.putIfAbsent(row.todoListId(), row.todoListName());
+            long[] listCount = listCounts.computeIfAbsent(row.todoListId(), id -> new long[3]);
+
+            // 할일이 없는 목록은 priority가 null로 한 줄만 내려옴
+            if (row.priority() == null || row.total() == 0) {
+                continue;
+            }
+
+            total += row.total();
+            completed += row.completed();
+            overdue += row.overdue();
+
+            add(listCount, row);
+            add(priorityCounts.computeIfAbsent(row.priority(), p -> new long[3]), row);
+        }
+
+        List<TeamStatsDto.PriorityStats> byPriority = new ArrayList<>();
+        priorityCounts.forEach((priority, c) ->
+                byPriority.add(new TeamStatsDto.PriorityStats(priority, c[0], c[1], c[2])));
+
+        List<TeamStatsDto.TodoListStats> byList = new ArrayList<>();
+        listCounts.forEach((listId, c) ->
+                byList.add(new TeamStatsDto.TodoListStats(listId, listNames.get(listId), c[0], c[1], c[2])));
+
+        List<TeamStatsDto.MemberStats> byMember = memberRows.stream()
+                .map(row -> new TeamStatsDto.MemberStats(
+                        row.userId(), row.nickname(), row.total(), row.completed(), row.overdue()))
+                .toList();
+
+        return TeamStatsDto.builder()
+                .total(total)
+                .completed(completed)
+                .overdue(overdue)
+                .inProgress(total - completed - overdue)
+                .completionRate(total > 0 ? Math.round((double) completed / total * 100) : 0)
+                .calculatedAt(now)
+                .byPriority(byPriority)
+                .byList(byList)
+                .byMember(byMember)
+                .build();
+    }
+
+    private void add(long[] counts, TeamTodoStatsRow row) {
+        counts[0] += row.total();
+        counts[1] += row.completed();
+        counts[2] += row.overdue();
+    }
+}
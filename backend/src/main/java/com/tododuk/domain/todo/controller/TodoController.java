@@ -1,27 +1,36 @@
 package com.tododuk.domain.todo.controller;
 
+import com.tododuk.domain.todo.dto.TodoCursorPageDto;
+import com.tododuk.domain.todo.dto.TodoImportResultDto;
 import com.tododuk.domain.todo.dto.TodoReqDto;
 import com.tododuk.domain.todo.dto.TodoResponseDto;
 import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todo.service.TodoExportService;
+import com.tododuk.domain.todo.service.TodoImportService;
 import com.tododuk.domain.todo.service.TodoService;
 import com.tododuk.domain.todoLabel.service.TodoLabelService;
 import com.tododuk.domain.todoList.dto.TodoListResponseDto;
 import com.tododuk.domain.todoList.entity.TodoList;
 import com.tododuk.domain.todoList.service.TodoListService;
 
-import com.tododuk.domain.user.entity.User;
-import com.tododuk.domain.user.service.UserService;
 import com.tododuk.global.exception.ServiceException;
+import com.tododuk.global.rq.Rq;
 import com.tododuk.global.rsData.RsData;
+import com.tododuk.global.security.Actor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -32,18 +41,36 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
-    private final UserService userService;
+    private final Rq rq;
   private final TodoListService todoListService;
     private final TodoLabelService todoLabelService;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
 
     @GetMapping // 메인에서 todo버튼 클릭시 이동하는 처음 화면
     @Transactional
     @Operation(summary = "전체 todo 조회")
-    public ResponseEntity<RsData<List<TodoResponseDto>>> getAllTodos() {
-        List<TodoResponseDto> todos = todoService.getAllTodos();
+    public ResponseEntity<RsData<List<TodoResponseDto>>> getAllTodos(
+            @RequestParam(required = false) String include
+    ) {
+        List<TodoResponseDto> todos = withIncludes(todoService.getAllTodos(), include);
         return ResponseEntity.ok(RsData.success("전체 todo 조회 성공", todos));
     }
 
+    // size 파라미터가 있으면 커서 기반 페이지로 조회 (size 최대 100, sort=dueDate|createDate)
+    @GetMapping(params = "size")
+    @Operation(summary = "전체 todo 커서 페이지 조회")
+    public ResponseEntity<RsData<TodoCursorPageDto>> getAllTodosPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "dueDate") String sort,
+            @RequestParam(required = false) String include
+    ) {
+        TodoCursorPageDto page = todoService.getTodoPage(null, null, sort, cursor, size);
+        withIncludes(page.items(), include);
+        return ResponseEntity.ok(RsData.success("전체 todo 조회 성공", page));
+    }
+
     @GetMapping("/{todo_id}")
     @Transactional
     @Operation(summary = "개별 todo 조회")
@@ -62,6 +89,22 @@ public class TodoController {
         return ResponseEntity.ok(RsData.success("새로운 todo 생성 성공", TodoResponseDto.from(saveTodo)));
     }
 
+    // 할일 일괄 가져오기 (JSON 배열 또는 NDJSON, 행별 오류는 결과에 포함)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "todo 일괄 가져오기")
+    public ResponseEntity<RsData<TodoImportResultDto>> importTodos(
+            HttpServletRequest request
+    ) throws IOException {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
+            return ResponseEntity.status(401).body(new RsData<>("401-1", "인증이 필요합니다."));
+        }
+
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        TodoImportResultDto result = todoImportService.importTodos(actor.id(), request.getInputStream(), ndjson);
+        return ResponseEntity.ok(RsData.success("todo 가져오기 완료", result));
+    }
+
     @PutMapping(value = "/{todo_id}")
     @Transactional
     @Operation(summary = "todo 수정")
@@ -106,47 +149,158 @@ public class TodoController {
     @Transactional
     @Operation(summary = "유저 아이디로 조회하기")
     public ResponseEntity<RsData<List<TodoResponseDto>>> getUserTodo(
-            @PathVariable Integer user_id
+            @PathVariable Integer user_id,
+            @RequestParam(required = false) String include
     ) {
-        List<TodoResponseDto> todos = todoService.getUserTodo(user_id);
+        List<TodoResponseDto> todos = withIncludes(todoService.getUserTodo(user_id), include);
         return ResponseEntity.ok(RsData.success("유저의 todo 조회 성공", todos));
     }
 
+    @GetMapping(value = "/user/{user_id}", params = "size")
+    @Operation(summary = "유저 아이디로 커서 페이지 조회")
+    public ResponseEntity<RsData<TodoCursorPageDto>> getUserTodoPage(
+            @PathVariable Integer user_id,
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "dueDate") String sort,
+            @RequestParam(required = false) String include
+    ) {
+        TodoCursorPageDto page = todoService.getTodoPage(user_id, null, sort, cursor, size);
+        withIncludes(page.items(), include);
+        return ResponseEntity.ok(RsData.success("유저의 todo 조회 성공", page));
+    }
+
     @GetMapping("/me")
     @Transactional
     @Operation(summary = "사용자의 투두 조회")
     public ResponseEntity<RsData<List<TodoResponseDto>>> getMyTodo(
-            Authentication authentication
+            @RequestParam(required = false) String include
     ) {
-        if (authentication == null || !authentication.isAuthenticated()) {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
             return ResponseEntity.status(401).body(new RsData<>("401-1", "인증이 필요합니다."));
         }
-        String username = authentication.getName();
-        System.out.println("Authenticated Username: " + username);
-        User user = userService.findByUserEmail(username)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         try {
-            List<TodoResponseDto> todos = todoService.getUserTodo(user.getId());
+            List<TodoResponseDto> todos = withIncludes(todoService.getUserTodo(actor.id()), include);
             return ResponseEntity.ok(RsData.success("유저의 todo list 조회 성공", todos));
         } catch (Exception e) {
             throw new ServiceException("400-1", "todo가 존재하지 않습니다.");
         }
     }
+    @GetMapping(value = "/me", params = "size")
+    @Operation(summary = "사용자의 투두 커서 페이지 조회")
+    public ResponseEntity<RsData<TodoCursorPageDto>> getMyTodoPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "dueDate") String sort,
+            @RequestParam(required = false) String include
+    ) {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
+            return ResponseEntity.status(401).body(new RsData<>("401-1", "인증이 필요합니다."));
+        }
+
+        TodoCursorPageDto page = todoService.getTodoPage(actor.id(), null, sort, cursor, size);
+        withIncludes(page.items(), include);
+        return ResponseEntity.ok(RsData.success("유저의 todo list 조회 성공", page));
+    }
+
+    // 제목/설명 검색 (한국어 부분 일치, 마지막 단어는 접두어 검색, 점수 순)
+    @GetMapping("/search")
+    @Operation(summary = "todo 검색")
+    public ResponseEntity<RsData<List<TodoResponseDto>>> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String include
+    ) {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
+            return ResponseEntity.status(401).body(new RsData<>("401-1", "인증이 필요합니다."));
+        }
+
+        if (q.isBlank()) {
+            throw new ServiceException("400-1", "검색어를 입력해주세요.");
+        }
+        List<TodoResponseDto> todos = todoService.search(actor.id(), q, size);
+        return ResponseEntity.ok(RsData.success("todo 검색 성공", withIncludes(todos, include)));
+    }
+
+    // 라벨 조합으로 내 할일 필터링 (예: ?allOf=1,2&anyOf=3,4&noneOf=5)
+    @GetMapping("/me/filter")
+    @Operation(summary = "라벨 조합으로 사용자의 투두 필터링")
+    public ResponseEntity<RsData<List<TodoResponseDto>>> filterMyTodosByLabels(
+            @RequestParam(defaultValue = "") List<Integer> allOf,
+            @RequestParam(defaultValue = "") List<Integer> anyOf,
+            @RequestParam(defaultValue = "") List<Integer> noneOf,
+            @RequestParam(required = false) String include
+    ) {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
+            return ResponseEntity.status(401).body(new RsData<>("401-1", "인증이 필요합니다."));
+        }
+
+        if (allOf.isEmpty() && anyOf.isEmpty() && noneOf.isEmpty()) {
+            throw new ServiceException("400-1", "필터할 라벨을 하나 이상 지정해주세요.");
+        }
+        List<TodoResponseDto> todos = todoService.filterByLabels(actor.id(), allOf, anyOf, noneOf);
+        return ResponseEntity.ok(RsData.success("라벨 필터 조회 성공", withIncludes(todos, include)));
+    }
+
+    // 내 할일 전체 내보내기 (라벨/담당자 포함, 한 줄에 할일 하나씩 NDJSON)
+    @GetMapping("/me/export")
+    @Operation(summary = "사용자의 투두 NDJSON 내보내기")
+    public ResponseEntity<?> exportMyTodos() {
+        Actor actor = rq.getCurrentActor();
+        if (actor == null) {
+            return ResponseEntity.status(401).body(new RsData<>("401-1", "인증이 필요합니다."));
+        }
+
+        int userId = actor.id();
+        StreamingResponseBody body = out -> todoExportService.exportUserTodos(userId, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos-" + userId + ".ndjson\"")
+                .body(body);
+    }
+
 //충돌의 위험있으므로 주
     @GetMapping("/list/{id}")
     @Transactional
     @Operation(summary = "리스트 기반 투두 조회")
     public ResponseEntity<RsData<List<TodoResponseDto>>> getMyTodo(
-            @PathVariable Integer id
+            @PathVariable Integer id,
+            @RequestParam(required = false) String include
     )
     {
         try {
-            List<TodoResponseDto> todos = todoService.getTodoByTodoListId(id);
+            List<TodoResponseDto> todos = withIncludes(todoService.getTodoByTodoListId(id), include);
             return ResponseEntity.ok(RsData.success("리스트 기반 투두 조회 성공", todos));
         } catch (Exception e) {
             throw new ServiceException("400-1", "해당 리스트의 투두가 존재하지 않습니다.");
         }
     }
 
+    @GetMapping(value = "/list/{id}", params = "size")
+    @Operation(summary = "리스트 기반 투두 커서 페이지 조회")
+    public ResponseEntity<RsData<TodoCursorPageDto>> getListTodoPage(
+            @PathVariable Integer id,
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "dueDate") String sort,
+            @RequestParam(required = false) String include
+    ) {
+        TodoCursorPageDto page = todoService.getTodoPage(null, id, sort, cursor, size);
+        withIncludes(page.items(), include);
+        return ResponseEntity.ok(RsData.success("리스트 기반 투두 조회 성공", page));
+    }
+
+    // include=labels 이면 라벨을 일괄 조회해서 붙임 (할일마다 라벨 API를 따로 호출하지 않도록)
+    private List<TodoResponseDto> withIncludes(List<TodoResponseDto> todos, String include) {
+        if (include != null && Arrays.asList(include.split(",")).contains("labels")) {
+            todoService.attachLabels(todos);
+        }
+        return todos;
+    }
 }
@@ -0,0 +1,45 @@
+package com.tododuk.domain.todo.dto;
+
+import com.tododuk.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 페이지네이션 위치 (마지막으로 내려준 할일의 정렬 키 + id)
+// key는 정렬 기준에 따라 dueDate 또는 createDate이며, 마감일이 없는 할일은 null
+public record TodoCursor(
+        TodoSortType sortType,
+        LocalDateTime key,
+        int id
+) {
+    public static TodoCursor of(TodoSortType sortType, TodoResponseDto todo) {
+        LocalDateTime key = sortType == TodoSortType.DUE_DATE ? todo.getDueDate() : todo.getCreatedAt();
+        return new TodoCursor(sortType, key, todo.getId());
+    }
+
+    public String encode() {
+        String raw = sortType.getParam() + "|" + (key == null ? "" : key) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor, TodoSortType sortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3 || TodoSortType.fromParam(parts[0]) != sortType) {
+                throw new IllegalArgumentException(raw);
+            }
+
+            LocalDateTime key = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            if (key == null && sortType == TodoSortType.CREATE_DATE) {
+                throw new IllegalArgumentException(raw);
+            }
+
+            return new TodoCursor(sortType, key, Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ServiceException("400-INVALID_CURSOR", "잘못된 커서입니다.");
+        }
+    }
+}
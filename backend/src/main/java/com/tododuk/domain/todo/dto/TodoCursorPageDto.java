@@ -0,0 +1,11 @@
+package com.tododuk.domain.todo.dto;
+
+import java.util.List;
+
+// 커서 기반 할일 페이지 (nextCursor를 다음 요청의 cursor로 전달, 마지막 페이지면 null)
+public record TodoCursorPageDto(
+        List<TodoResponseDto> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,59 @@
+package com.tododuk.domain.todo.dto;
+
+import com.tododuk.domain.label.dto.LabelDto;
+import com.tododuk.domain.team.dto.TodoAssigneeRow;
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todoList.entity.TodoList;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 할일 내보내기(NDJSON) 한 줄
+public record TodoExportDto(
+        int id,
+        String title,
+        String description,
+        boolean completed,
+        int priority,
+        LocalDateTime startDate,
+        LocalDateTime dueDate,
+        int todoListId,
+        String todoListName,
+        Integer teamId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<LabelDto> labels,
+        List<Assignee> assignees
+) {
+    public record Assignee(
+            int userId,
+            String nickname,
+            String status,
+            LocalDateTime assignedAt
+    ) {
+        public static Assignee from(TodoAssigneeRow row) {
+            return new Assignee(row.userId(), row.nickname(), row.status().name(), row.assignedAt());
+        }
+    }
+
+    public static TodoExportDto of(Todo todo, List<LabelDto> labels, List<Assignee> assignees) {
+        TodoList todoList = todo.getTodoList();
+
+        return new TodoExportDto(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getDescription(),
+                todo.isCompleted(),
+                todo.getPriority(),
+                todo.getStartDate(),
+                todo.getDueDate(),
+                todoList.getId(),
+                todoList.getName(),
+                todoList.getTeam() != null ? todoList.getTeam().getId() : null,
+                todo.getCreateDate(),
+                todo.getModifyDate(),
+                labels,
+                assignees
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.tododuk.domain.todo.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 할일 일괄 가져오기 한 건 (할일 정보 + 붙일 라벨 ID)
+@Getter
+@NoArgsConstructor
+public class TodoImportReqDto extends TodoReqDto {
+    private List<Integer> labelIds = new ArrayList<>();
+}
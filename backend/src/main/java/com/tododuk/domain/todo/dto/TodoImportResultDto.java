@@ -0,0 +1,18 @@
+package com.tododuk.domain.todo.dto;
+
+import java.util.List;
+
+// 할일 일괄 가져오기 결과 (row는 요청 본문에서의 1부터 시작하는 순번)
+public record TodoImportResultDto(
+        int total,
+        int imported,
+        int failed,
+        List<Integer> createdIds,
+        List<RowError> errors
+) {
+    public record RowError(
+            int row,
+            String message
+    ) {
+    }
+}
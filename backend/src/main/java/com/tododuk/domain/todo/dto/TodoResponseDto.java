@@ -1,12 +1,16 @@
 package com.tododuk.domain.todo.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tododuk.domain.label.dto.LabelDto;
 import com.tododuk.domain.todo.entity.Todo;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -23,6 +27,17 @@ public class TodoResponseDto {
     private int todoList;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // include=labels 요청일 때만 채워짐
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Setter
+    private List<LabelDto> labels;
+
+    // JPQL 생성자 표현식 및 from()에서 사용 (라벨 제외)
+    public TodoResponseDto(int id, String title, String description, boolean isCompleted, int priority,
+                           LocalDateTime startDate, LocalDateTime dueDate, int todoList,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, isCompleted, priority, startDate, dueDate, todoList, createdAt, updatedAt, null);
+    }
 
     public static TodoResponseDto from(Todo todo) {
         return new TodoResponseDto(
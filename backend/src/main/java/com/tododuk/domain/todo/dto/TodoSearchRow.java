@@ -0,0 +1,12 @@
+package com.tododuk.domain.todo.dto;
+
+// 검색 인덱스 적재용 할일 행 (목록 소유자/팀 포함)
+public record TodoSearchRow(
+        Integer todoId,
+        String title,
+        String description,
+        Integer todoListId,
+        Integer userId,
+        Integer teamId
+) {
+}
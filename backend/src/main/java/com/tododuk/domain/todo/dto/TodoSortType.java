@@ -0,0 +1,30 @@
+package com.tododuk.domain.todo.dto;
+
+import com.tododuk.global.exception.ServiceException;
+
+// 커서 페이지 정렬 기준
+public enum TodoSortType {
+    // 마감일 오름차순 (마감일 없는 할일은 마지막), id 오름차순
+    DUE_DATE("dueDate"),
+    // 생성일 내림차순, id 내림차순
+    CREATE_DATE("createDate");
+
+    private final String param;
+
+    TodoSortType(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static TodoSortType fromParam(String param) {
+        for (TodoSortType sortType : values()) {
+            if (sortType.param.equals(param)) {
+                return sortType;
+            }
+        }
+        throw new ServiceException("400-INVALID_SORT", "지원하지 않는 정렬 기준입니다. (dueDate, createDate)");
+    }
+}
@@ -4,8 +4,10 @@ import com.tododuk.domain.todo.dto.TodoReqDto;
 import com.tododuk.domain.todoList.entity.TodoList;
 import com.tododuk.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// 커서 페이지 정렬 키 (목록별 마감일 순 / 목록별, 전체 생성일 순)
+@Table(indexes = {
+        @Index(name = "idx_todo_list_due_date_id", columnList = "todo_list_id, due_date, id"),
+        @Index(name = "idx_todo_list_create_date_id", columnList = "todo_list_id, create_date, id"),
+        @Index(name = "idx_todo_create_date_id", columnList = "create_date, id")
+})
 public class Todo extends BaseEntity {
     private  String title;
     private String description;
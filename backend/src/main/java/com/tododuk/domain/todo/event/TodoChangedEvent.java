@@ -0,0 +1,19 @@
+package com.tododuk.domain.todo.event;
+
+// Todo 생성/수정/삭제 이벤트 (before가 null이면 생성, after가 null이면 삭제)
+public record TodoChangedEvent(
+        TodoSnapshot before,
+        TodoSnapshot after
+) {
+    public static TodoChangedEvent created(TodoSnapshot after) {
+        return new TodoChangedEvent(null, after);
+    }
+
+    public static TodoChangedEvent updated(TodoSnapshot before, TodoSnapshot after) {
+        return new TodoChangedEvent(before, after);
+    }
+
+    public static TodoChangedEvent deleted(TodoSnapshot before) {
+        return new TodoChangedEvent(before, null);
+    }
+}
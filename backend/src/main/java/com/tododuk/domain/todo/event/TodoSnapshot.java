@@ -0,0 +1,39 @@
+package com.tododuk.domain.todo.event;
+
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todoList.entity.TodoList;
+
+import java.time.LocalDateTime;
+
+// 변경 전/후 비교용 Todo 상태 (엔티티 참조 없이 값만 보관)
+public record TodoSnapshot(
+        int todoId,
+        Integer todoListId,
+        Integer teamId,
+        Integer userId,
+        int priority,
+        boolean completed,
+        LocalDateTime dueDate,
+        String title,
+        String description
+) {
+    public static TodoSnapshot of(Todo todo) {
+        TodoList todoList = todo.getTodoList();
+
+        return new TodoSnapshot(
+                todo.getId(),
+                todoList != null ? todoList.getId() : null,
+                todoList != null && todoList.getTeam() != null ? todoList.getTeam().getId() : null,
+                todoList != null && todoList.getUser() != null ? todoList.getUser().getId() : null,
+                todo.getPriority(),
+                todo.isCompleted(),
+                todo.getDueDate(),
+                todo.getTitle(),
+                todo.getDescription()
+        );
+    }
+
+    public boolean isOverdue(LocalDateTime now) {
+        return !completed && dueDate != null && dueDate.isBefore(now);
+    }
+}
@@ -1,15 +1,141 @@
 package com.tododuk.domain.todo.repository;
 
+import com.tododuk.domain.todo.dto.TodoResponseDto;
+import com.tododuk.domain.todo.dto.TodoSearchRow;
 import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todoList.dto.TodoListCountRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface TodoRepository extends JpaRepository <Todo, Integer> {
+public interface TodoRepository extends JpaRepository <Todo, Integer>, TodoRepositoryCustom {
     List<Todo> findAllByTodoListUserId(Integer userId);
 
     List<Todo> findAllByTodoListId(Integer id);
 
     // 할일 목록 ID로 할일 조회
     List<Todo> findByTodoListId(Integer todoListId);
+
+    // id 목록으로 응답 DTO 바로 조회 (엔티티/연관 로딩 없음)
+    @Query("""
+            SELECT new com.tododuk.domain.todo.dto.TodoResponseDto(
+                t.id, t.title, t.description, t.isCompleted, t.priority, t.startDate, t.dueDate,
+                t.todoList.id, t.createDate, t.modifyDate)
+            FROM Todo t
+            WHERE t.id IN :ids
+            ORDER BY t.id
+            """)
+    List<TodoResponseDto> findResponseDtosByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 라벨 필터 결과 조회용 (인덱스가 늦게 반영돼도 내 목록의 할일만 반환)
+    @Query("""
+            SELECT new com.tododuk.domain.todo.dto.TodoResponseDto(
+                t.id, t.title, t.description, t.isCompleted, t.priority, t.startDate, t.dueDate,
+                t.todoList.id, t.createDate, t.modifyDate)
+            FROM Todo t
+            WHERE t.id IN :ids AND t.todoList.user.id = :userId
+            ORDER BY t.id
+            """)
+    List<TodoResponseDto> findResponseDtosByIdInAndUserId(@Param("ids") Collection<Integer> ids, @Param("userId") int userId);
+
+    // 검색 인덱스 적재용 (id 순 분할 조회)
+    @Query("""
+            SELECT new com.tododuk.domain.todo.dto.TodoSearchRow(t.id, t.title, t.description, l.id, u.id, tm.id)
+            FROM Todo t
+            JOIN t.todoList l
+            LEFT JOIN l.user u
+            LEFT JOIN l.team tm
+            WHERE t.id > :afterId
+            ORDER BY t.id
+            """)
+    List<TodoSearchRow> findSearchRowsAfter(@Param("afterId") int afterId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.tododuk.domain.todo.dto.TodoSearchRow(t.id, t.title, t.description, l.id, u.id, tm.id)
+            FROM Todo t
+            JOIN t.todoList l
+            LEFT JOIN l.user u
+            LEFT JOIN l.team tm
+            WHERE t.id IN :ids
+            """)
+    List<TodoSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("""
+            SELECT new com.tododuk.domain.todo.dto.TodoSearchRow(t.id, t.title, t.description, l.id, u.id, tm.id)
+            FROM Todo t
+            JOIN t.todoList l
+            LEFT JOIN l.user u
+            LEFT JOIN l.team tm
+            WHERE l.id = :todoListId
+            """)
+    List<TodoSearchRow> findSearchRowsByTodoListId(@Param("todoListId") int todoListId);
+
+    // 검색 결과 조회용 (인덱스가 늦게 반영돼도 내 목록 또는 내가 속한 팀 목록의 할일만 반환)
+    @Query("""
+            SELECT new com.tododuk.domain.todo.dto.TodoResponseDto(
+                t.id, t.title, t.description, t.isCompleted, t.priority, t.startDate, t.dueDate,
+                l.id, t.createDate, t.modifyDate)
+            FROM Todo t
+            JOIN t.todoList l
+            LEFT JOIN l.user u
+            LEFT JOIN l.team tm
+            WHERE t.id IN :ids
+              AND (u.id = :userId
+                   OR tm.id IN (SELECT m.team.id FROM TeamMember m WHERE m.user.id = :userId AND m.team.deletedAt IS NULL))
+            """)
+    List<TodoResponseDto> findAccessibleResponseDtosByIdIn(@Param("ids") Collection<Integer> ids, @Param("userId") int userId);
+
+    // 내보내기용 전방향 스트림 (트랜잭션 안에서 소비하고 반드시 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT t FROM Todo t
+            JOIN FETCH t.todoList l
+            LEFT JOIN FETCH l.user
+            LEFT JOIN FETCH l.team
+            WHERE l.user.id = :userId
+            ORDER BY t.id
+            """)
+    Stream<Todo> streamAllByUserId(@Param("userId") int userId);
+
+    // 할일 목록별 할일/완료 건수 (목록 여러 개를 한 번에 집계)
+    @Query("""
+            SELECT new com.tododuk.domain.todoList.dto.TodoListCountRow(
+                t.todoList.id, COUNT(t), COALESCE(SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), 0))
+            FROM Todo t
+            WHERE t.todoList.id IN :todoListIds
+            GROUP BY t.todoList.id
+            """)
+    List<TodoListCountRow> countByTodoListIds(@Param("todoListIds") List<Integer> todoListIds);
+
+    // 팀 분할 삭제용: 팀에 속한 할일 ID를 청크 단위로 조회
+    @Query("SELECT t.id FROM Todo t WHERE t.todoList.team.id = :teamId ORDER BY t.id")
+    List<Integer> findIdsByTeamId(@Param("teamId") int teamId, Pageable pageable);
+
+    long countByTodoListTeamId(Integer teamId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int bulkDeleteByIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 팀 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.todoList.id IN (SELECT l.id FROM TodoList l WHERE l.team.id = :teamId)")
+    int bulkDeleteByTeamId(@Param("teamId") int teamId);
+
+    // 할일 목록 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.todoList.id = :todoListId")
+    int bulkDeleteByTodoListId(@Param("todoListId") int todoListId);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.tododuk.domain.todo.repository;
+
+import com.tododuk.domain.todo.dto.TodoCursor;
+import com.tododuk.domain.todo.dto.TodoResponseDto;
+import com.tododuk.domain.todo.dto.TodoSortType;
+
+import java.util.List;
+
+public interface TodoRepositoryCustom {
+
+    // 키셋 페이지 조회 (userId/todoListId가 null이면 해당 조건 없음, cursor가 null이면 첫 페이지)
+    List<TodoResponseDto> findPageAfter(Integer userId, Integer todoListId, TodoSortType sortType,
+                                        TodoCursor cursor, int limit);
+}
@@ -0,0 +1,95 @@
+package com.tododuk.domain.todo.repository;
+
+import com.tododuk.domain.todo.dto.TodoCursor;
+import com.tododuk.domain.todo.dto.TodoResponseDto;
+import com.tododuk.domain.todo.dto.TodoSortType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 조건/정렬 조합별로 JPQL을 만들어 (todo_list_id, due_date, id) / (create_date, id) 인덱스 범위 조회가 되도록 유지
+// 커서 조건은 "key >= :cursorKey AND (key > :cursorKey OR id > :cursorId)" 형태로 써서 인덱스 시작 위치를 정할 수 있게 한다.
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TodoResponseDto> findPageAfter(Integer userId, Integer todoListId, TodoSortType sortType,
+                                               TodoCursor cursor, int limit) {
+        if (sortType == TodoSortType.CREATE_DATE) {
+            List<String> conditions = scope(userId, todoListId);
+            if (cursor != null) {
+                conditions.add("t.createDate <= :cursorKey AND (t.createDate < :cursorKey OR t.id < :cursorId)");
+            }
+            return find(conditions, "t.createDate DESC, t.id DESC", userId, todoListId, cursor, limit);
+        }
+
+        // 마감일 순: 마감일 있는 구간을 범위 조회하고, 모자란 만큼 마감일 없는 구간을 id 순으로 이어 붙임
+        // (OR dueDate IS NULL 조건을 한 쿼리에 섞으면 범위 조회가 안 됨)
+        List<TodoResponseDto> page = new ArrayList<>();
+        if (cursor == null || cursor.key() != null) {
+            List<String> conditions = scope(userId, todoListId);
+            conditions.add("t.dueDate IS NOT NULL");
+            if (cursor != null) {
+                conditions.add("t.dueDate >= :cursorKey AND (t.dueDate > :cursorKey OR t.id > :cursorId)");
+            }
+            page.addAll(find(conditions, "t.dueDate ASC, t.id ASC", userId, todoListId, cursor, limit));
+        }
+
+        if (page.size() < limit) {
+            // 커서가 이미 마감일 없는 구간에 있을 때만 id 조건 적용
+            TodoCursor nullKeyCursor = cursor != null && cursor.key() == null ? cursor : null;
+            List<String> conditions = scope(userId, todoListId);
+            conditions.add("t.dueDate IS NULL");
+            if (nullKeyCursor != null) {
+                conditions.add("t.id > :cursorId");
+            }
+            page.addAll(find(conditions, "t.id ASC", userId, todoListId, nullKeyCursor, limit - page.size()));
+        }
+        return page;
+    }
+
+    private List<String> scope(Integer userId, Integer todoListId) {
+        List<String> conditions = new ArrayList<>();
+        if (userId != null) {
+            conditions.add("t.todoList.user.id = :userId");
+        }
+        if (todoListId != null) {
+            conditions.add("t.todoList.id = :todoListId");
+        }
+        return conditions;
+    }
+
+    private List<TodoResponseDto> find(List<String> conditions, String orderBy, Integer userId, Integer todoListId,
+                                       TodoCursor cursor, int limit) {
+        String jpql = """
+                SELECT new com.tododuk.domain.todo.dto.TodoResponseDto(
+                    t.id, t.title, t.description, t.isCompleted, t.priority, t.startDate, t.dueDate,
+                    t.todoList.id, t.createDate, t.modifyDate)
+                FROM Todo t
+                """
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + orderBy;
+
+        TypedQuery<TodoResponseDto> query = entityManager.createQuery(jpql, TodoResponseDto.class);
+
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        if (todoListId != null) {
+            query.setParameter("todoListId", todoListId);
+        }
+        if (cursor != null) {
+            query.setParameter("cursorId", cursor.id());
+            if (cursor.key() != null) {
+                query.setParameter("cursorKey", cursor.key());
+            }
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.tododuk.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tododuk.domain.label.dto.LabelDto;
+import com.tododuk.domain.team.repository.TodoAssignmentRepository;
+import com.tododuk.domain.todo.dto.TodoExportDto;
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todo.repository.TodoRepository;
+import com.tododuk.domain.todoLabel.repository.TodoLabelRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 사용자 할일 NDJSON 내보내기
+// 할일을 스트림으로 읽어 CHUNK_SIZE 단위로 라벨/담당자를 붙여 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 비워 메모리를 일정하게 유지한다.
+@Service
+public class TodoExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final TodoRepository todoRepository;
+    private final TodoLabelRepository todoLabelRepository;
+    private final TodoAssignmentRepository todoAssignmentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            TodoLabelRepository todoLabelRepository,
+            TodoAssignmentRepository todoAssignmentRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoLabelRepository = todoLabelRepository;
+        this.todoAssignmentRepository = todoAssignmentRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // 응답 스트림에 바로 쓰므로 컨트롤러의 StreamingResponseBody 안에서 호출
+    public void exportUserTodos(int userId, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Todo> todos = todoRepository.streamAllByUserId(userId)) {
+                List<Todo> chunk = new ArrayList<>(CHUNK_SIZE);
+
+                todos.forEach(todo -> {
+                    chunk.add(todo);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        writeChunk(chunk, out);
+                    }
+                });
+
+                if (!chunk.isEmpty()) {
+                    writeChunk(chunk, out);
+                }
+            }
+        });
+    }
+
+    private void writeChunk(List<Todo> chunk, OutputStream out) {
+        List<Integer> todoIds = chunk.stream().map(Todo::getId).toList();
+
+        Map<Integer, List<LabelDto>> labelsByTodoId = todoLabelRepository.findLabelRowsByTodoIds(todoIds).stream()
+                .collect(Collectors.groupingBy(row -> row.todoId(),
+                        Collectors.mapping(row -> new LabelDto(row.labelId(), row.name(), row.color()),
+                                Collectors.toList())));
+
+        Map<Integer, List<TodoExportDto.Assignee>> assigneesByTodoId = todoAssignmentRepository
+                .findAssigneeRowsByTodoIds(todoIds).stream()
+                .collect(Collectors.groupingBy(row -> row.todoId(),
+                        Collectors.mapping(TodoExportDto.Assignee::from, Collectors.toList())));
+
+        try {
+            for (Todo todo : chunk) {
+                TodoExportDto dto = TodoExportDto.of(todo,
+                        labelsByTodoId.getOrDefault(todo.getId(), List.of()),
+                        assigneesByTodoId.getOrDefault(todo.getId(), List.of()));
+                out.write(objectMapper.writeValueAsBytes(dto));
+                out.write(NEW_LINE);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 이미 내보낸 엔티티는 분리해서 GC 대상이 되게 함
+        chunk.clear();
+        entityManager.clear();
+    }
+}
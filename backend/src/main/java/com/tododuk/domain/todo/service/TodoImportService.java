@@ -0,0 +1,312 @@
+package com.tododuk.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tododuk.domain.label.entity.Label;
+import com.tododuk.domain.label.repository.LabelRepository;
+import com.tododuk.domain.team.repository.TeamMemberRepository;
+import com.tododuk.domain.team.service.TeamStatsCounterService;
+import com.tododuk.domain.todo.dto.TodoImportReqDto;
+import com.tododuk.domain.todo.dto.TodoImportResultDto;
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todoLabel.entity.TodoLabel;
+import com.tododuk.domain.todoLabel.service.TodoLabelIndex;
+import com.tododuk.domain.todoList.entity.TodoList;
+import com.tododuk.domain.todoList.repository.TodoListRepository;
+import com.tododuk.global.entity.EntityIdAllocator;
+import com.tododuk.global.exception.ServiceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 할일 일괄 가져오기
+// 전체 요청을 먼저 검증하고(목록/라벨은 한 번씩만 조회), 통과한 행만 CHUNK_SIZE 단위 트랜잭션에서 JDBC 배치로 저장한다.
+// ID는 Hibernate와 같은 시퀀스에서 미리 발급받아 INSERT에 직접 넣는다.
+// 한 청크 저장이 실패해도 해당 청크 행만 실패로 기록하고 나머지는 계속 진행한다.
+@Service
+@Slf4j
+public class TodoImportService {
+
+    public static final int MAX_ROWS = 10_000;
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_TODO_SQL = """
+            INSERT INTO todo (id, title, description, is_completed, priority, start_date, due_date, todo_list_id, create_date, modify_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_TODO_LABEL_SQL = """
+            INSERT INTO todo_label (id, todo_id, label_id, create_date, modify_date)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TodoListRepository todoListRepository;
+    private final LabelRepository labelRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamStatsCounterService teamStatsCounterService;
+    private final TodoLabelIndex todoLabelIndex;
+    private final TodoSearchIndex todoSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator entityIdAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    public TodoImportService(
+            ObjectMapper objectMapper,
+            Validator validator,
+            TodoListRepository todoListRepository,
+            LabelRepository labelRepository,
+            TeamMemberRepository teamMemberRepository,
+            TeamStatsCounterService teamStatsCounterService,
+            TodoLabelIndex todoLabelIndex,
+            TodoSearchIndex todoSearchIndex,
+            JdbcTemplate jdbcTemplate,
+            EntityIdAllocator entityIdAllocator,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.todoListRepository = todoListRepository;
+        this.labelRepository = labelRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.teamStatsCounterService = teamStatsCounterService;
+        this.todoLabelIndex = todoLabelIndex;
+        this.todoSearchIndex = todoSearchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityIdAllocator = entityIdAllocator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TodoImportResultDto importTodos(int userId, InputStream body, boolean ndjson) throws IOException {
+        List<TodoImportResultDto.RowError> errors = new ArrayList<>();
+        List<TodoImportReqDto> rows = ndjson ? parseNdjson(body, errors) : parseJsonArray(body);
+
+        if (rows.size() > MAX_ROWS) {
+            throw new ServiceException("400-TOO_MANY_ROWS", "한 번에 가져올 수 있는 할일은 최대 " + MAX_ROWS + "개입니다.");
+        }
+
+        // 1. 요청 전체를 먼저 검증 (목록/라벨/팀 권한은 한 번씩만 조회)
+        Map<Integer, TodoList> todoLists = todoListRepository.findAllById(rows.stream()
+                        .filter(Objects::nonNull)
+                        .map(TodoImportReqDto::getTodoListId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(TodoList::getId, Function.identity()));
+
+        Set<Integer> labelIds = labelRepository.findAllById(rows.stream()
+                        .filter(Objects::nonNull)
+                        .flatMap(row -> row.getLabelIds() == null ? Stream.empty() : row.getLabelIds().stream())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .map(Label::getId)
+                .collect(Collectors.toSet());
+
+        Map<Integer, Boolean> teamAccess = new HashMap<>();
+        List<PendingRow> pendingRows = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            TodoImportReqDto row = rows.get(i);
+            if (row == null) {
+                continue; // 파싱 단계에서 이미 오류 기록
+            }
+
+            String error = validate(row, userId, todoLists, labelIds, teamAccess);
+            if (error != null) {
+                errors.add(new TodoImportResultDto.RowError(i + 1, error));
+            } else {
+                pendingRows.add(new PendingRow(i + 1, row));
+            }
+        }
+
+        // 2. 청크 단위로 저장
+        List<Integer> createdIds = new ArrayList<>();
+        Set<Integer> touchedTeamIds = new HashSet<>();
+        Set<Integer> touchedOwnerIds = new HashSet<>();
+
+        for (int from = 0; from < pendingRows.size(); from += CHUNK_SIZE) {
+            List<PendingRow> chunk = pendingRows.subList(from, Math.min(from + CHUNK_SIZE, pendingRows.size()));
+
+            try {
+                createdIds.addAll(transactionTemplate.execute(status -> insertChunk(chunk)));
+                chunk.forEach(pendingRow -> {
+                    TodoList todoList = todoLists.get(pendingRow.dto().getTodoListId());
+                    if (todoList.getTeam() != null) {
+                        touchedTeamIds.add(todoList.getTeam().getId());
+                    }
+                    if (todoList.getUser() != null) {
+                        touchedOwnerIds.add(todoList.getUser().getId());
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("할일 가져오기 청크 저장 실패. rows: {}-{}", chunk.get(0).row(), chunk.get(chunk.size() - 1).row(), e);
+                chunk.forEach(pendingRow -> errors.add(
+                        new TodoImportResultDto.RowError(pendingRow.row(), "저장에 실패했습니다.")));
+            }
+        }
+
+        // 팀 통계 카운터는 건별 이벤트 대신 다시 적재
+        touchedTeamIds.forEach(teamStatsCounterService::evict);
+        touchedOwnerIds.forEach(todoLabelIndex::evict);
+        todoSearchIndex.index(createdIds);
+
+        errors.sort(Comparator.comparingInt(TodoImportResultDto.RowError::row));
+        return new TodoImportResultDto(rows.size(), createdIds.size(), errors.size(), createdIds, errors);
+    }
+
+    // 한 줄에 할일 하나 (빈 줄은 무시, 파싱 실패한 줄은 null로 자리만 유지)
+    private List<TodoImportReqDto> parseNdjson(InputStream body, List<TodoImportResultDto.RowError> errors) throws IOException {
+        List<TodoImportReqDto> rows = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows.size() >= MAX_ROWS) {
+                rows.add(null);
+                break; // 최대 건수 초과는 호출부에서 처리
+            }
+
+            try {
+                rows.add(objectMapper.readValue(line, TodoImportReqDto.class));
+            } catch (JsonProcessingException e) {
+                rows.add(null);
+                errors.add(new TodoImportResultDto.RowError(rows.size(), "JSON 형식이 올바르지 않습니다."));
+            }
+        }
+        return rows;
+    }
+
+    private List<TodoImportReqDto> parseJsonArray(InputStream body) throws IOException {
+        try {
+            return objectMapper.readValue(body, new TypeReference<List<TodoImportReqDto>>() {});
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("400-INVALID_JSON", "요청 본문은 할일 JSON 배열이어야 합니다.");
+        }
+    }
+
+    private String validate(TodoImportReqDto row, int userId, Map<Integer, TodoList> todoLists,
+                            Set<Integer> labelIds, Map<Integer, Boolean> teamAccess) {
+        Set<ConstraintViolation<TodoImportReqDto>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+
+        TodoList todoList = todoLists.get(row.getTodoListId());
+        if (todoList == null) {
+            return "해당 todo_list_id는 존재하지 않습니다.";
+        }
+
+        // 내 목록이거나 내가 속한 팀의 목록만 허용
+        boolean accessible = todoList.getTeam() != null
+                ? teamAccess.computeIfAbsent(todoList.getTeam().getId(),
+                        teamId -> teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId))
+                : todoList.getUser() != null && todoList.getUser().getId() == userId;
+        if (!accessible) {
+            return "해당 할일 목록에 추가할 권한이 없습니다.";
+        }
+
+        if (row.getLabelIds() != null) {
+            for (Integer labelId : row.getLabelIds()) {
+                if (labelId == null || !labelIds.contains(labelId)) {
+                    return "존재하지 않는 라벨입니다. labelId: " + labelId;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 할일과 라벨 연결을 각각 배치 저장
+    private List<Integer> insertChunk(List<PendingRow> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> todoIds = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            todoIds.add(entityIdAllocator.nextId(Todo.class));
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_TODO_SQL)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    TodoImportReqDto row = chunk.get(i).dto();
+                    ps.setInt(1, todoIds.get(i));
+                    ps.setString(2, row.getTitle());
+                    ps.setString(3, row.getDescription());
+                    ps.setBoolean(4, row.isCompleted());
+                    ps.setInt(5, row.getPriority());
+                    setTimestamp(ps, 6, row.getStartDate());
+                    setTimestamp(ps, 7, row.getDueDate());
+                    ps.setInt(8, row.getTodoListId());
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_TODO_LABEL_SQL)) {
+                boolean hasLabels = false;
+                for (int i = 0; i < chunk.size(); i++) {
+                    List<Integer> rowLabelIds = chunk.get(i).dto().getLabelIds();
+                    if (rowLabelIds == null) {
+                        continue;
+                    }
+                    for (Integer labelId : new HashSet<>(rowLabelIds)) {
+                        ps.setInt(1, entityIdAllocator.nextId(TodoLabel.class));
+                        ps.setInt(2, todoIds.get(i));
+                        ps.setInt(3, labelId);
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                        ps.addBatch();
+                        hasLabels = true;
+                    }
+                }
+                if (hasLabels) {
+                    ps.executeBatch();
+                }
+            }
+
+            return todoIds;
+        });
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    private record PendingRow(int row, TodoImportReqDto dto) {
+    }
+}
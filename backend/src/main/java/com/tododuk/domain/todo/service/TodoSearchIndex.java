@@ -0,0 +1,271 @@
+package com.tododuk.domain.todo.service;
+
+import com.tododuk.domain.todo.dto.TodoSearchRow;
+import com.tododuk.domain.todo.event.TodoChangedEvent;
+import com.tododuk.domain.todo.event.TodoSnapshot;
+import com.tododuk.domain.todo.repository.TodoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 할일 제목/설명 전문 검색 인덱스 (메모리 Lucene 인덱스, 시작 시 DB에서 재구성)
+// 한국어는 CJK 바이그램으로 나누고, 마지막 검색어는 접두어로 찾는다.
+// 할일 생성/수정/삭제는 TodoChangedEvent로 커밋 이후에 반영한다.
+@Component
+@Slf4j
+public class TodoSearchIndex {
+
+    private static final String F_ID = "id";
+    private static final String F_USER = "userId";
+    private static final String F_TEAM = "teamId";
+    private static final String F_LIST = "todoListId";
+    private static final String F_TITLE = "title";
+    private static final String F_DESCRIPTION = "description";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public TodoSearchIndex(TodoRepository todoRepository) throws IOException {
+        this.todoRepository = todoRepository;
+        this.analyzer = new CJKAnalyzer(CharArraySet.EMPTY_SET);
+        this.directory = new ByteBuffersDirectory();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() throws IOException {
+        writer.deleteAll();
+
+        int lastId = 0;
+        int count = 0;
+        List<TodoSearchRow> rows;
+        do {
+            rows = todoRepository.findSearchRowsAfter(lastId, PageRequest.ofSize(REBUILD_CHUNK_SIZE));
+            for (TodoSearchRow row : rows) {
+                writer.addDocument(toDocument(row));
+                lastId = row.todoId();
+            }
+            count += rows.size();
+        } while (rows.size() == REBUILD_CHUNK_SIZE);
+
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+        log.info("할일 검색 인덱스 적재 완료. todos: {}", count);
+    }
+
+    // 내 목록 또는 내가 속한 팀 목록의 할일 중 점수 순으로 최대 limit개의 id
+    public List<Integer> search(String text, int userId, Collection<Integer> teamIds, int limit) {
+        List<String> tokens = analyze(text);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < tokens.size(); i++) {
+            boolean last = i == tokens.size() - 1;
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(tokenQuery(F_TITLE, tokens.get(i), last), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(tokenQuery(F_DESCRIPTION, tokens.get(i), last), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+
+        BooleanQuery.Builder access = new BooleanQuery.Builder()
+                .add(IntPoint.newExactQuery(F_USER, userId), BooleanClause.Occur.SHOULD);
+        if (!teamIds.isEmpty()) {
+            access.add(IntPoint.newSetQuery(F_TEAM, teamIds), BooleanClause.Occur.SHOULD);
+        }
+        query.add(access.build(), BooleanClause.Occur.FILTER);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                List<Integer> ids = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(query.build(), limit).scoreDocs) {
+                    ids.add(Integer.parseInt(searcher.storedFields().document(scoreDoc.doc).get(F_ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        try {
+            if (event.after() == null) {
+                writer.deleteDocuments(idTerm(event.before().todoId()));
+            } else {
+                TodoSnapshot after = event.after();
+                writer.updateDocument(idTerm(after.todoId()), toDocument(new TodoSearchRow(
+                        after.todoId(), after.title(), after.description(),
+                        after.todoListId(), after.userId(), after.teamId())));
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.warn("할일 검색 인덱스 반영 실패", e);
+        }
+    }
+
+    // 일괄 가져오기처럼 이벤트 없이 저장된 할일을 DB에서 다시 읽어 반영
+    public void index(List<Integer> todoIds) {
+        try {
+            for (int from = 0; from < todoIds.size(); from += REBUILD_CHUNK_SIZE) {
+                List<Integer> chunk = todoIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, todoIds.size()));
+                for (TodoSearchRow row : todoRepository.findSearchRowsByIdIn(chunk)) {
+                    writer.updateDocument(idTerm(row.todoId()), toDocument(row));
+                }
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.warn("할일 검색 인덱스 반영 실패", e);
+        }
+    }
+
+    // 목록의 소유자/팀이 바뀌면 커밋 이후 목록의 할일을 DB에서 다시 읽어 접근 범위 갱신
+    public void reindexTodoList(int todoListId) {
+        afterCommit(() -> {
+            try {
+                for (TodoSearchRow row : todoRepository.findSearchRowsByTodoListId(todoListId)) {
+                    writer.updateDocument(idTerm(row.todoId()), toDocument(row));
+                }
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                log.warn("할일 검색 인덱스 반영 실패", e);
+            }
+        });
+    }
+
+    // 팀/목록 일괄 삭제 시 커밋 이후 해당 문서 제거
+    public void deleteByTeam(int teamId) {
+        afterCommit(() -> delete(IntPoint.newExactQuery(F_TEAM, teamId)));
+    }
+
+    public void deleteByTodoList(int todoListId) {
+        afterCommit(() -> delete(IntPoint.newExactQuery(F_LIST, todoListId)));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    private void delete(Query query) {
+        try {
+            writer.deleteDocuments(query);
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.warn("할일 검색 인덱스 삭제 실패", e);
+        }
+    }
+
+    private Query tokenQuery(String field, String token, boolean prefix) {
+        Term term = new Term(field, token);
+        return prefix ? new PrefixQuery(term) : new TermQuery(term);
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        try (TokenStream stream = analyzer.tokenStream(F_TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private Document toDocument(TodoSearchRow row) {
+        Document document = new Document();
+        document.add(new StringField(F_ID, String.valueOf(row.todoId()), Field.Store.YES));
+        if (row.userId() != null) {
+            document.add(new IntPoint(F_USER, row.userId()));
+        }
+        if (row.teamId() != null) {
+            document.add(new IntPoint(F_TEAM, row.teamId()));
+        }
+        if (row.todoListId() != null) {
+            document.add(new IntPoint(F_LIST, row.todoListId()));
+        }
+        if (row.title() != null) {
+            document.add(new TextField(F_TITLE, row.title(), Field.Store.NO));
+        }
+        if (row.description() != null) {
+            document.add(new TextField(F_DESCRIPTION, row.description(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private Term idTerm(int todoId) {
+        return new Term(F_ID, String.valueOf(todoId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
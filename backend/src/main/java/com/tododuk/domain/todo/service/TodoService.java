@@ -1,17 +1,31 @@
 package com.tododuk.domain.todo.service;
 
+import com.tododuk.domain.label.dto.LabelDto;
+import com.tododuk.domain.team.repository.TeamMemberRepository;
+import com.tododuk.domain.todo.dto.TodoCursor;
+import com.tododuk.domain.todo.dto.TodoCursorPageDto;
 import com.tododuk.domain.todo.dto.TodoReqDto;
 import com.tododuk.domain.todo.dto.TodoResponseDto;
+import com.tododuk.domain.todo.dto.TodoSortType;
 import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todo.event.TodoChangedEvent;
+import com.tododuk.domain.todo.event.TodoSnapshot;
 import com.tododuk.domain.todo.repository.TodoRepository;
+import com.tododuk.domain.todoLabel.service.TodoLabelIndex;
 import com.tododuk.domain.todoLabel.service.TodoLabelService;
 import com.tododuk.domain.todoList.entity.TodoList;
 import com.tododuk.domain.todoList.repository.TodoListRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +34,14 @@ public class TodoService {
     private final  TodoRepository todoRepository;
     private final TodoListRepository todoListRepository;
     private final TodoLabelService todoLabelService;
+    private final TodoLabelIndex todoLabelIndex;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int FILTER_FETCH_CHUNK_SIZE = 1000;
+    public static final int MAX_SEARCH_SIZE = 100;
 
     public Todo save(Todo todo) {
         return todoRepository.save(todo);
@@ -52,7 +74,9 @@ public class TodoService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 todo_list_id는 존재하지 않습니다."));
         Todo todo = reqDto.toEntity();
         todo.setTodoList(todoList);
-        return todoRepository.save(todo);
+        Todo savedTodo = todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.created(TodoSnapshot.of(savedTodo)));
+        return savedTodo;
     }
 
     @Transactional
@@ -61,8 +85,10 @@ public class TodoService {
                 .orElseThrow(()-> new IllegalArgumentException("해당 todo는 존재하지 않습니다."));
         TodoList todoList = todoListRepository.findById(reqDto.getTodoListId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 todo_list_id는 존재하지 않습니다."));
+        TodoSnapshot before = TodoSnapshot.of(todo);
         todo.setTodoList(todoList);
         todo.update(reqDto);
+        eventPublisher.publishEvent(TodoChangedEvent.updated(before, TodoSnapshot.of(todo)));
         return todo;
     }
 
@@ -76,16 +102,21 @@ public class TodoService {
         todoLabelService.deleteAllTodoLabelsByTodoId(todoId);
 
         // 3. Todo 삭제
+        TodoSnapshot before = TodoSnapshot.of(todo);
         todoRepository.delete(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(before));
     }
 
     @Transactional
     public TodoResponseDto isComplete(Integer todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(()-> new IllegalArgumentException("해당 todo는 존재하지 않습니다."));
+        TodoSnapshot before = TodoSnapshot.of(todo);
         todo.setCompleted(!todo.isCompleted());
+        Todo savedTodo = todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.updated(before, TodoSnapshot.of(savedTodo)));
 
-        return TodoResponseDto.from(todoRepository.save(todo));
+        return TodoResponseDto.from(savedTodo);
     }
 
     public List<TodoResponseDto> getUserTodo(Integer userId) {
@@ -96,6 +127,70 @@ public class TodoService {
     }
 
 
+    // 커서 기반 할일 페이지 조회 (userId/todoListId가 null이면 전체 대상)
+    @Transactional(readOnly = true)
+    public TodoCursorPageDto getTodoPage(Integer userId, Integer todoListId, String sort, String cursor, int size) {
+        TodoSortType sortType = TodoSortType.fromParam(sort);
+        TodoCursor after = cursor == null || cursor.isBlank() ? null : TodoCursor.decode(cursor, sortType);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<TodoResponseDto> todos = todoRepository.findPageAfter(userId, todoListId, sortType, after, pageSize + 1);
+        boolean hasNext = todos.size() > pageSize;
+        if (hasNext) {
+            todos = todos.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? TodoCursor.of(sortType, todos.get(todos.size() - 1)).encode() : null;
+        return new TodoCursorPageDto(todos, nextCursor, hasNext);
+    }
+
+    // 할일 목록에 라벨을 붙임 (할일 수와 무관하게 IN 쿼리로 일괄 조회)
+    @Transactional(readOnly = true)
+    public List<TodoResponseDto> attachLabels(List<TodoResponseDto> todos) {
+        if (todos.isEmpty()) {
+            return todos;
+        }
+
+        Map<Integer, List<LabelDto>> labelsByTodoId = todoLabelService.getLabelsByTodoIds(
+                todos.stream().map(TodoResponseDto::getId).toList());
+        todos.forEach(todo -> todo.setLabels(labelsByTodoId.getOrDefault(todo.getId(), List.of())));
+        return todos;
+    }
+
+    // 라벨 조합으로 내 할일 필터링 (비트맵 인덱스로 id를 구한 뒤 id IN 조회, 소유자도 다시 확인)
+    @Transactional(readOnly = true)
+    public List<TodoResponseDto> filterByLabels(int userId, List<Integer> allOf, List<Integer> anyOf, List<Integer> noneOf) {
+        int[] ids = todoLabelIndex.filter(userId, allOf, anyOf, noneOf).toArray();
+
+        List<TodoResponseDto> todos = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += FILTER_FETCH_CHUNK_SIZE) {
+            List<Integer> chunk = Arrays.stream(ids, from, Math.min(from + FILTER_FETCH_CHUNK_SIZE, ids.length))
+                    .boxed()
+                    .toList();
+            todos.addAll(todoRepository.findResponseDtosByIdInAndUserId(chunk, userId));
+        }
+        return todos;
+    }
+
+    // 제목/설명 전문 검색 (내 목록 + 내가 속한 팀 목록, 점수 순)
+    @Transactional(readOnly = true)
+    public List<TodoResponseDto> search(int userId, String query, int size) {
+        List<Integer> teamIds = teamMemberRepository.findActiveTeamIdsByUserId(userId);
+        List<Integer> ids = todoSearchIndex.search(query, userId, teamIds, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // DB 조회 결과를 검색 점수 순서로 다시 정렬 (인덱스에만 남아 있는 삭제/이동된 할일은 빠짐)
+        Map<Integer, TodoResponseDto> todos = todoRepository.findAccessibleResponseDtosByIdIn(ids, userId).stream()
+                .collect(Collectors.toMap(TodoResponseDto::getId, Function.identity()));
+        return ids.stream()
+                .map(todos::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     public List<TodoResponseDto> getTodoByTodoListId(Integer id) {
         List<Todo> todos = todoRepository.findAllByTodoListId(id);
         return todos.stream()
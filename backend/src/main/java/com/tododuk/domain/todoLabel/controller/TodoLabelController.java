@@ -7,13 +7,13 @@ import com.tododuk.domain.todoLabel.dto.TodoLabelRequestDto;
 import com.tododuk.domain.todoLabel.dto.TodoLabelResponseDto;
 import com.tododuk.domain.todoLabel.entity.TodoLabel;
 import com.tododuk.domain.todoLabel.service.TodoLabelService;
+import com.tododuk.global.exception.ServiceException;
 import com.tododuk.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @RestController
@@ -24,6 +24,8 @@ public class TodoLabelController {
 
     private final TodoLabelService todoLabelService;
 
+    private static final int MAX_BATCH_TODO_IDS = 500;
+
     @GetMapping("/{todoId}/labels")
     public RsData<TodoLabelResponseDto> getTodoLabels(@PathVariable int todoId) {
         // 🔥 수정: LabelDto 객체들을 반환하도록 변경
@@ -34,6 +36,20 @@ public class TodoLabelController {
         return new RsData<>("200-1", "Todo 라벨 목록을 성공적으로 조회했습니다.", responseDto);
     }
 
+    // 여러 할일의 라벨 일괄 조회 (예: /api/todos/labels?todoIds=1,2,3)
+    @GetMapping("/labels")
+    public RsData<List<TodoLabelResponseDto>> getTodoLabelsBatch(@RequestParam List<Integer> todoIds) {
+        if (todoIds.size() > MAX_BATCH_TODO_IDS) {
+            throw new ServiceException("400-1", "한 번에 조회할 수 있는 할일은 최대 " + MAX_BATCH_TODO_IDS + "개입니다.");
+        }
+
+        List<TodoLabelResponseDto> responseDtos = todoLabelService.getLabelsByTodoIds(todoIds).entrySet().stream()
+                .map(entry -> new TodoLabelResponseDto(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new RsData<>("200-1", "Todo 라벨 목록을 성공적으로 조회했습니다.", responseDtos);
+    }
+
     @PostMapping("/{todoId}/label")
     public RsData<CreateTodoLabelResponseDto> createTodoLabel(@RequestBody CreateTodoLabelRequestDto request) {
         TodoLabel savedTodoLabel = todoLabelService.createTodoLabel(request.todoId(), request.labelId());
@@ -51,13 +67,7 @@ public class TodoLabelController {
         List<TodoLabel> savedTodoLabels = todoLabelService.createTodoLabels(request.todoId(), request.labelIds());
 
         // 🔥 수정: LabelDto 객체들을 반환하도록 변경
-        List<LabelDto> labels = savedTodoLabels.stream()
-                .map(todoLabel -> new LabelDto(
-                        todoLabel.getLabel().getId(),
-                        todoLabel.getLabel().getName(),
-                        todoLabel.getLabel().getColor()
-                ))
-                .collect(Collectors.toList());
+        List<LabelDto> labels = todoLabelService.toLabelDtos(savedTodoLabels);
 
         TodoLabelResponseDto responseDto = new TodoLabelResponseDto(request.todoId(), labels);
 
@@ -69,13 +79,7 @@ public class TodoLabelController {
         List<TodoLabel> savedTodoLabels = todoLabelService.updateTodoLabels(request.todoId(), request.labelIds());
 
         // 🔥 수정: LabelDto 객체들을 반환하도록 변경
-        List<LabelDto> labels = savedTodoLabels.stream()
-                .map(todoLabel -> new LabelDto(
-                        todoLabel.getLabel().getId(),
-                        todoLabel.getLabel().getName(),
-                        todoLabel.getLabel().getColor()
-                ))
-                .collect(Collectors.toList());
+        List<LabelDto> labels = todoLabelService.toLabelDtos(savedTodoLabels);
 
         TodoLabelResponseDto responseDto = new TodoLabelResponseDto(request.todoId(), labels);
 
@@ -0,0 +1,8 @@
+package com.tododuk.domain.todoLabel.dto;
+
+// 할일-라벨 연결 id만 조회 (라벨 이름/색상은 LabelCatalog에서 채움)
+public record TodoLabelIdRow(
+        Integer todoId,
+        Integer labelId
+) {
+}
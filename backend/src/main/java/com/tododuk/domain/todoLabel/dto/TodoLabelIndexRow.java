@@ -0,0 +1,9 @@
+package com.tododuk.domain.todoLabel.dto;
+
+// 라벨 비트맵 인덱스 적재용 (할일에 라벨이 없으면 labelId가 null)
+public record TodoLabelIndexRow(
+        Integer userId,
+        Integer todoId,
+        Integer labelId
+) {
+}
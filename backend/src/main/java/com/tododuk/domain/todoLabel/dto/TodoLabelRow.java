@@ -0,0 +1,10 @@
+package com.tododuk.domain.todoLabel.dto;
+
+// 할일별 라벨 조회 결과 (여러 할일의 라벨을 한 번에 조회할 때 사용)
+public record TodoLabelRow(
+        Integer todoId,
+        Integer labelId,
+        String name,
+        String color
+) {
+}
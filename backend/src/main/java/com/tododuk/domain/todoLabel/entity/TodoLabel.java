@@ -5,6 +5,8 @@ import com.tododuk.domain.todo.entity.Todo;
 import com.tododuk.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +15,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_todo_label_todo_label", columnNames = {"todo_id", "label_id"}))
 @Builder
 @AllArgsConstructor
 public class TodoLabel extends BaseEntity {
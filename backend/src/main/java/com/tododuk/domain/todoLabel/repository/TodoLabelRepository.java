@@ -1,9 +1,16 @@
 package com.tododuk.domain.todoLabel.repository;
 
+import com.tododuk.domain.todoLabel.dto.TodoLabelIdRow;
+import com.tododuk.domain.todoLabel.dto.TodoLabelIndexRow;
+import com.tododuk.domain.todoLabel.dto.TodoLabelRow;
 import com.tododuk.domain.todoLabel.entity.TodoLabel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +22,68 @@ public interface TodoLabelRepository extends JpaRepository<TodoLabel, Integer> {
     Optional<TodoLabel> findByTodoIdAndLabelId(int todoId, int labelId);
 
     boolean existsByTodoIdAndLabelId(int todoId, int labelId);
+
+    @Query("""
+            SELECT new com.tododuk.domain.todoLabel.dto.TodoLabelIdRow(tl.todo.id, tl.label.id)
+            FROM TodoLabel tl
+            WHERE tl.todo.id IN :todoIds
+            ORDER BY tl.todo.id, tl.label.id
+            """)
+    List<TodoLabelIdRow> findLabelIdRowsByTodoIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 라벨 비트맵 인덱스 적재용 (라벨 없는 할일도 포함)
+    @Query("""
+            SELECT new com.tododuk.domain.todoLabel.dto.TodoLabelIndexRow(l.user.id, t.id, tl.label.id)
+            FROM Todo t
+            JOIN t.todoList l
+            LEFT JOIN TodoLabel tl ON tl.todo = t
+            WHERE l.user IS NOT NULL
+            """)
+    List<TodoLabelIndexRow> findLabelIndexRows();
+
+    @Query("""
+            SELECT new com.tododuk.domain.todoLabel.dto.TodoLabelIndexRow(l.user.id, t.id, tl.label.id)
+            FROM Todo t
+            JOIN t.todoList l
+            LEFT JOIN TodoLabel tl ON tl.todo = t
+            WHERE l.user.id = :userId
+            """)
+    List<TodoLabelIndexRow> findLabelIndexRowsByUserId(@Param("userId") int userId);
+
+    // 라벨까지 한 번에 조회 (라벨 동기화용)
+    @Query("SELECT tl FROM TodoLabel tl JOIN FETCH tl.label WHERE tl.todo.id = :todoId")
+    List<TodoLabel> findWithLabelByTodoId(@Param("todoId") int todoId);
+
+    // 할일 하나 범위의 삭제라 영속성 컨텍스트는 비우지 않음 (호출한 쪽의 Todo/유지되는 TodoLabel이 분리되지 않도록)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TodoLabel tl WHERE tl.todo.id = :todoId AND tl.label.id IN :labelIds")
+    int bulkDeleteByTodoIdAndLabelIds(@Param("todoId") int todoId, @Param("labelIds") Collection<Integer> labelIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TodoLabel tl WHERE tl.todo.id = :todoId")
+    int bulkDeleteByTodoId(@Param("todoId") int todoId);
+
+    // 여러 할일의 라벨을 한 번에 조회
+    @Query("""
+            SELECT new com.tododuk.domain.todoLabel.dto.TodoLabelRow(tl.todo.id, l.id, l.name, l.color)
+            FROM TodoLabel tl JOIN tl.label l
+            WHERE tl.todo.id IN :todoIds
+            ORDER BY tl.todo.id, l.id
+            """)
+    List<TodoLabelRow> findLabelRowsByTodoIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 팀 분할 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoLabel tl WHERE tl.todo.id IN :todoIds")
+    int bulkDeleteByTodoIds(@Param("todoIds") List<Integer> todoIds);
+
+    // 팀 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoLabel tl WHERE tl.todo.id IN (SELECT t.id FROM Todo t WHERE t.todoList.team.id = :teamId)")
+    int bulkDeleteByTeamId(@Param("teamId") int teamId);
+
+    // 할일 목록 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoLabel tl WHERE tl.todo.id IN (SELECT t.id FROM Todo t WHERE t.todoList.id = :todoListId)")
+    int bulkDeleteByTodoListId(@Param("todoListId") int todoListId);
 }
\ No newline at end of file
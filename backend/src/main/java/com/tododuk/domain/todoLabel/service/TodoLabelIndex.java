@@ -0,0 +1,199 @@
+package com.tododuk.domain.todoLabel.service;
+
+import com.tododuk.domain.todo.event.TodoChangedEvent;
+import com.tododuk.domain.todo.event.TodoSnapshot;
+import com.tododuk.domain.todoLabel.dto.TodoLabelIndexRow;
+import com.tododuk.domain.todoLabel.repository.TodoLabelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 사용자별 라벨 비트맵 인덱스 (라벨 하나당 할일 id 압축 비트맵 하나)
+// 시작 시 DB에서 전체 적재하고, 라벨 연결/할일 변경은 커밋 이후에 반영한다.
+// 삭제된 할일 id가 잠시 남아 있어도 결과는 DB에서 할일을 읽을 때 걸러진다.
+// 적재 쿼리가 도는 동안 커밋된 변경은 반영할 인덱스가 없어 버려지므로, 사용자별 변경 버전을 두고
+// 적재 전후 버전이 다르면 다시 적재한다. (버전 증가와 인덱스 교체는 같은 키의 compute 안에서 처리)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodoLabelIndex {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final TodoLabelRepository todoLabelRepository;
+    private final Map<Integer, UserIndex> indexes = new ConcurrentHashMap<>();
+    // 사용자별 인덱스 변경 횟수 (적재 중에 들어온 변경 감지용)
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        Map<Integer, Long> loadedVersions = new HashMap<>(versions);
+        Map<Integer, UserIndex> loaded = new HashMap<>();
+        for (TodoLabelIndexRow row : todoLabelRepository.findLabelIndexRows()) {
+            loaded.computeIfAbsent(row.userId(), userId -> new UserIndex()).add(row);
+        }
+
+        // 적재 중에 변경된 사용자는 넣지 않고 조회 시점에 다시 적재
+        loaded.forEach((userId, userIndex) -> install(userId, userIndex, loadedVersions.getOrDefault(userId, 0L)));
+        log.info("라벨 비트맵 인덱스 적재 완료. users: {}", loaded.size());
+    }
+
+    // allOf는 모두 포함(AND), anyOf는 하나 이상 포함(OR), noneOf는 하나도 포함하지 않음(NOT)
+    public RoaringBitmap filter(int userId, Collection<Integer> allOf, Collection<Integer> anyOf, Collection<Integer> noneOf) {
+        UserIndex userIndex = indexes.get(userId);
+        if (userIndex == null) {
+            userIndex = load(userId);
+        }
+
+        synchronized (userIndex) {
+            RoaringBitmap result = userIndex.todos.clone();
+
+            for (Integer labelId : allOf) {
+                result.and(userIndex.bitmap(labelId));
+            }
+            if (!anyOf.isEmpty()) {
+                RoaringBitmap any = new RoaringBitmap();
+                anyOf.forEach(labelId -> any.or(userIndex.bitmap(labelId)));
+                result.and(any);
+            }
+            for (Integer labelId : noneOf) {
+                result.andNot(userIndex.bitmap(labelId));
+            }
+            return result;
+        }
+    }
+
+    public void addLabels(Integer userId, int todoId, Collection<Integer> labelIds) {
+        afterCommit(() -> update(userId, userIndex -> {
+            userIndex.todos.add(todoId);
+            labelIds.forEach(labelId -> userIndex.labels.computeIfAbsent(labelId, id -> new RoaringBitmap()).add(todoId));
+        }));
+    }
+
+    public void removeLabels(Integer userId, int todoId, Collection<Integer> labelIds) {
+        afterCommit(() -> update(userId, userIndex ->
+                labelIds.forEach(labelId -> userIndex.bitmap(labelId).remove(todoId))));
+    }
+
+    // 건별 반영이 어려운 변경(일괄 가져오기 등)은 버리고 다음 조회 때 다시 적재
+    public void evict(Integer userId) {
+        if (userId != null) {
+            afterCommit(() -> remove(userId));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        TodoSnapshot before = event.before();
+        TodoSnapshot after = event.after();
+
+        if (before == null && after != null) {
+            update(after.userId(), userIndex -> userIndex.todos.add(after.todoId()));
+        } else if (before != null && after == null) {
+            update(before.userId(), userIndex -> userIndex.removeTodo(before.todoId()));
+        } else if (before != null && !Objects.equals(before.userId(), after.userId())) {
+            // 다른 사용자의 목록으로 옮겨진 경우
+            remove(before.userId());
+            remove(after.userId());
+        }
+    }
+
+    // 적재 전후로 변경이 없을 때만 인덱스에 넣음 (계속 바뀌면 이번 조회에만 쓰고 다음 조회 때 다시 적재)
+    private UserIndex load(int userId) {
+        UserIndex loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = versions.getOrDefault(userId, 0L);
+            loaded = new UserIndex();
+            todoLabelRepository.findLabelIndexRowsByUserId(userId).forEach(loaded::add);
+
+            UserIndex installed = install(userId, loaded, version);
+            if (installed != null) {
+                return installed;
+            }
+        }
+        return loaded;
+    }
+
+    private UserIndex install(int userId, UserIndex loaded, long loadedVersion) {
+        return indexes.compute(userId, (id, current) ->
+                versions.getOrDefault(id, 0L) == loadedVersion ? loaded : current);
+    }
+
+    // 아직 적재되지 않은 사용자는 버전만 올리고 조회 시점에 DB에서 적재
+    private void update(Integer userId, Consumer<UserIndex> change) {
+        if (userId == null) {
+            return;
+        }
+
+        indexes.compute(userId, (id, userIndex) -> {
+            versions.merge(id, 1L, Long::sum);
+            if (userIndex != null) {
+                synchronized (userIndex) {
+                    change.accept(userIndex);
+                }
+            }
+            return userIndex;
+        });
+    }
+
+    private void remove(Integer userId) {
+        if (userId == null) {
+            return;
+        }
+
+        indexes.compute(userId, (id, userIndex) -> {
+            versions.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class UserIndex {
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final RoaringBitmap todos = new RoaringBitmap();
+        private final Map<Integer, RoaringBitmap> labels = new HashMap<>();
+
+        void add(TodoLabelIndexRow row) {
+            todos.add(row.todoId());
+            if (row.labelId() != null) {
+                labels.computeIfAbsent(row.labelId(), id -> new RoaringBitmap()).add(row.todoId());
+            }
+        }
+
+        RoaringBitmap bitmap(int labelId) {
+            return labels.getOrDefault(labelId, EMPTY);
+        }
+
+        void removeTodo(int todoId) {
+            todos.remove(todoId);
+            labels.values().forEach(bitmap -> bitmap.remove(todoId));
+        }
+    }
+}
@@ -3,16 +3,27 @@ package com.tododuk.domain.todoLabel.service;
 import com.tododuk.domain.label.dto.LabelDto;
 import com.tododuk.domain.label.entity.Label;
 import com.tododuk.domain.label.repository.LabelRepository;
+import com.tododuk.domain.label.service.LabelCatalog;
 import com.tododuk.domain.todo.entity.Todo;
 import com.tododuk.domain.todo.repository.TodoRepository;
+import com.tododuk.domain.todoLabel.dto.TodoLabelIdRow;
 import com.tododuk.domain.todoLabel.entity.TodoLabel;
 import com.tododuk.domain.todoLabel.repository.TodoLabelRepository;
+import com.tododuk.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -22,6 +33,11 @@ public class TodoLabelService {
     private final TodoLabelRepository todoLabelRepository;
     private final TodoRepository todoRepository;
     private final LabelRepository labelRepository;
+    private final LabelCatalog labelCatalog;
+    private final TodoLabelIndex todoLabelIndex;
+
+    // IN 절 하나에 넣는 할일 id 수
+    private static final int LABEL_LOOKUP_CHUNK_SIZE = 1000;
 
     // 기존 메서드 유지 (다른 곳에서 사용할 수도 있으므로)
     @Transactional(readOnly = true)
@@ -34,13 +50,28 @@ public class TodoLabelService {
     // 새로 추가: LabelDto 객체들을 반환하는 메서드
     @Transactional(readOnly = true)
     public List<LabelDto> getTodoLabelsByTodoId(int todoId) {
-        return todoLabelRepository.findByTodoId(todoId).stream()
-                .map(todoLabel -> new LabelDto(
-                        todoLabel.getLabel().getId(),
-                        todoLabel.getLabel().getName(),
-                        todoLabel.getLabel().getColor()
-                ))
-                .collect(Collectors.toList());
+        return getLabelsByTodoIds(List.of(todoId)).get(todoId);
+    }
+
+    // 여러 할일의 라벨을 IN 쿼리로 한 번에 조회 (요청한 모든 할일 id가 키로 들어가며, 라벨이 없으면 빈 목록)
+    // 연결 id만 DB에서 읽고 라벨 정보는 LabelCatalog에서 채움
+    @Transactional(readOnly = true)
+    public Map<Integer, List<LabelDto>> getLabelsByTodoIds(Collection<Integer> todoIds) {
+        Map<Integer, List<LabelDto>> labelsByTodoId = new LinkedHashMap<>();
+        todoIds.forEach(todoId -> labelsByTodoId.put(todoId, new ArrayList<>()));
+
+        List<Integer> ids = List.copyOf(labelsByTodoId.keySet());
+        for (int from = 0; from < ids.size(); from += LABEL_LOOKUP_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + LABEL_LOOKUP_CHUNK_SIZE, ids.size()));
+            for (TodoLabelIdRow row : todoLabelRepository.findLabelIdRowsByTodoIds(chunk)) {
+                LabelDto label = labelCatalog.get(row.labelId());
+                if (label != null) {
+                    labelsByTodoId.get(row.todoId()).add(label);
+                }
+            }
+        }
+
+        return labelsByTodoId;
     }
 
     @Transactional
@@ -48,48 +79,101 @@ public class TodoLabelService {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new IllegalArgumentException("Todo not found"));
 
-        Label label = labelRepository.findById(labelId)
-                .orElseThrow(() -> new IllegalArgumentException("Label not found"));
+        if (!labelCatalog.contains(labelId)) {
+            throw new IllegalArgumentException("Label not found");
+        }
 
-        TodoLabel todoLabel = new TodoLabel(todo, label);
-        return todoLabelRepository.save(todoLabel);
+        TodoLabel todoLabel = new TodoLabel(todo, labelRepository.getReferenceById(labelId));
+        TodoLabel saved = todoLabelRepository.save(todoLabel);
+        todoLabelIndex.addLabels(ownerId(todo), todoId, List.of(labelId));
+        return saved;
     }
 
+    // 없는 라벨만 추가하고 새로 연결된 것만 반환
     @Transactional
     public List<TodoLabel> createTodoLabels(int todoId, List<Integer> labelIds) {
-        List<TodoLabel> result = new ArrayList<>();
+        return syncTodoLabels(todoId, labelIds, false).added();
+    }
+
+    // 요청한 라벨 집합으로 맞추고 (추가/삭제 차이만 반영) 최종 연결 목록을 반환
+    @Transactional
+    public List<TodoLabel> updateTodoLabels(int todoId, List<Integer> labelIds) {
+        SyncResult result = syncTodoLabels(todoId, labelIds, true);
+
+        List<TodoLabel> todoLabels = new ArrayList<>(result.kept());
+        todoLabels.addAll(result.added());
+        return todoLabels;
+    }
 
-        for (Integer labelId : labelIds) {
-            boolean exists = todoLabelRepository.existsByTodoIdAndLabelId(todoId, labelId);
+    // 기존 연결을 한 번 읽고 차이를 계산해 일괄 DELETE 한 번 + 배치 INSERT 한 번으로 반영
+    // 동시 요청으로 같은 라벨이 두 번 들어가는 것은 (todo_id, label_id) 유니크 제약이 막는다.
+    private SyncResult syncTodoLabels(int todoId, List<Integer> labelIds, boolean removeMissing) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new IllegalArgumentException("Todo not found"));
 
-            if (exists) {
-                continue;
+        Set<Integer> requested = labelIds == null ? new LinkedHashSet<>() : new LinkedHashSet<>(labelIds);
+        List<TodoLabel> existing = todoLabelRepository.findWithLabelByTodoId(todoId);
+
+        List<TodoLabel> kept = new ArrayList<>();
+        Set<Integer> toRemove = new HashSet<>();
+        for (TodoLabel todoLabel : existing) {
+            int labelId = todoLabel.getLabel().getId();
+            if (requested.remove(labelId)) {
+                kept.add(todoLabel);
+            } else if (removeMissing) {
+                toRemove.add(labelId);
+            } else {
+                kept.add(todoLabel);
             }
+        }
+        // 여기서 requested에는 새로 추가할 라벨만 남음
 
-            TodoLabel todoLabel = createTodoLabel(todoId, labelId);
-            result.add(todoLabel);
+        if (!requested.stream().allMatch(labelCatalog::contains)) {
+            throw new IllegalArgumentException("Label not found");
         }
+        // 존재 확인은 카탈로그로 끝냈으므로 라벨은 프록시 참조만 사용 (SELECT 없음)
+        List<Label> labelsToAdd = requested.stream()
+                .map(labelRepository::getReferenceById)
+                .toList();
 
-        return result;
-    }
+        Integer ownerId = ownerId(todo);
 
-    @Transactional
-    public List<TodoLabel> updateTodoLabels(int todoId, List<Integer> labelIds) {
-        List<TodoLabel> result = new ArrayList<>();
-        List<Integer> savedLabelIds = getTodoLabelIdsByTodoIds(todoId);
+        if (!toRemove.isEmpty()) {
+            todoLabelRepository.bulkDeleteByTodoIdAndLabelIds(todoId, toRemove);
+            todoLabelIndex.removeLabels(ownerId, todoId, toRemove);
+        }
+
+        List<TodoLabel> added = labelsToAdd.stream()
+                .map(label -> new TodoLabel(todo, label))
+                .toList();
 
-        // 기존 라벨들 모두 제거
-        deleteAllTodoLabelsByTodoId(todoId);
-        //기존 삭제 코드
-//        for (Integer labelId : savedLabelIds) {
-//            removeTodoLabelFromTodo(todoId, labelId);
-//        }
+        if (!added.isEmpty()) {
+            try {
+                todoLabelRepository.saveAllAndFlush(added);
+            } catch (DataIntegrityViolationException e) {
+                throw new ServiceException("409-DUPLICATE_LABEL", "이미 연결된 라벨이 있습니다. 다시 시도해주세요.");
+            }
+            todoLabelIndex.addLabels(ownerId, todoId, List.copyOf(requested));
+        }
+
+        return new SyncResult(kept, added);
+    }
 
-        // 새로운 라벨들 추가
-        List<TodoLabel> todoLabels = createTodoLabels(todoId, labelIds);
-        result.addAll(todoLabels);
+    // 응답용 변환 (라벨 프록시를 초기화하지 않도록 카탈로그에서 조회)
+    public List<LabelDto> toLabelDtos(List<TodoLabel> todoLabels) {
+        return todoLabels.stream()
+                .map(todoLabel -> labelCatalog.get(todoLabel.getLabel().getId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Integer ownerId(Todo todo) {
+        return todo.getTodoList() != null && todo.getTodoList().getUser() != null
+                ? todo.getTodoList().getUser().getId()
+                : null;
+    }
 
-        return result;
+    private record SyncResult(List<TodoLabel> kept, List<TodoLabel> added) {
     }
     //기존 전체 삭제 (비효율적이므로, 일괄 삭제로 변경)
     @Transactional
@@ -98,14 +182,12 @@ public class TodoLabelService {
                 .orElseThrow(() -> new IllegalArgumentException("todoLabel not found"));
 
         todoLabelRepository.delete(todoLabel);
+        todoLabelIndex.removeLabels(ownerId(todoLabel.getTodo()), todoId, List.of(labelId));
     }
 
-    // 일괄 삭제
+    // 일괄 삭제 (엔티티 로딩 없이 DELETE 한 번)
     @Transactional
     public void deleteAllTodoLabelsByTodoId(int todoId) {
-        List<TodoLabel> todoLabels = todoLabelRepository.findByTodoId(todoId);
-        if (!todoLabels.isEmpty()) {
-            todoLabelRepository.deleteAll(todoLabels); // 일괄 삭제
-        }
+        todoLabelRepository.bulkDeleteByTodoId(todoId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.tododuk.domain.todoList.dto;
+
+// 할일 목록별 할일/완료 건수 집계 결과
+public record TodoListCountRow(
+        Integer todoListId,
+        Long todoCount,
+        Long completedCount
+) {
+}
@@ -5,9 +5,11 @@ import com.tododuk.domain.todo.entity.Todo;
 import com.tododuk.domain.user.entity.User;
 import com.tododuk.global.entity.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -19,6 +21,7 @@ import static jakarta.persistence.CascadeType.REMOVE;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_todo_list_team_id", columnList = "team_id"))
 @Getter
 @Setter
 @NoArgsConstructor
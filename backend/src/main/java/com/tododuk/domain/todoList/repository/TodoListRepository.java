@@ -1,7 +1,12 @@
 package com.tododuk.domain.todoList.repository;
 
+import com.tododuk.domain.team.dto.TeamTodoListDto;
 import com.tododuk.domain.todoList.entity.TodoList;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +22,23 @@ public interface TodoListRepository extends JpaRepository<TodoList, Integer> {
     
     // 팀의 모든 할일 목록 조회
     List<TodoList> findByTeamId(Integer teamId);
+
+    // 팀의 할일 목록을 응답 형태로 바로 조회 (페이지/정렬은 Pageable로 지정)
+    @Query("""
+            SELECT new com.tododuk.domain.team.dto.TeamTodoListDto(
+                l.id, l.name, l.description, l.user.id, l.team.id, l.createDate, l.modifyDate)
+            FROM TodoList l
+            WHERE l.team.id = :teamId
+            """)
+    List<TeamTodoListDto> findTeamTodoListDtos(@Param("teamId") int teamId, Pageable pageable);
+
+    // 팀 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoList l WHERE l.team.id = :teamId")
+    int bulkDeleteByTeamId(@Param("teamId") int teamId);
+
+    // 할일 목록 일괄 삭제용
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoList l WHERE l.id = :todoListId")
+    int bulkDeleteById(@Param("todoListId") int todoListId);
 }
@@ -2,6 +2,10 @@ package com.tododuk.domain.todoList.service;
 
 import com.tododuk.domain.team.entity.Team;
 import com.tododuk.domain.team.repository.TeamRepository;
+import com.tododuk.domain.team.service.TeamCascadeDeleteService;
+import com.tododuk.domain.team.service.TeamStatsCounterService;
+import com.tododuk.domain.todo.service.TodoSearchIndex;
+import com.tododuk.domain.todoLabel.service.TodoLabelIndex;
 import com.tododuk.domain.todoList.dto.TodoListReqDto;
 import com.tododuk.domain.todoList.dto.TodoListResponseDto;
 import com.tododuk.domain.todoList.entity.TodoList;
@@ -22,6 +26,10 @@ public class TodoListService {
     private final TodoListRepository todoListRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
+    private final TeamStatsCounterService teamStatsCounterService;
+    private final TeamCascadeDeleteService teamCascadeDeleteService;
+    private final TodoLabelIndex todoLabelIndex;
+    private final TodoSearchIndex todoSearchIndex;
 
     public List<TodoListResponseDto> getAllTodoLists() {
         return todoListRepository.findAll().stream()
@@ -61,6 +69,26 @@ public class TodoListService {
         Team team = teamRepository.findById(reqDto.getTeamId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 팀이 없습니다."));
 
+        // 목록의 팀이 바뀌면 이전/새 팀 통계를 모두 다시 적재
+        if (todoList.getTeam() != null && todoList.getTeam().getId() != team.getId()) {
+            teamStatsCounterService.evict(todoList.getTeam().getId());
+            teamStatsCounterService.evict(team.getId());
+        }
+
+        // 목록 소유자가 바뀌면 이전/새 소유자의 라벨 인덱스를 모두 다시 적재 (커밋 이후)
+        Integer previousUserId = todoList.getUser() != null ? todoList.getUser().getId() : null;
+        if (previousUserId == null || previousUserId != user.getId()) {
+            todoLabelIndex.evict(previousUserId);
+            todoLabelIndex.evict(user.getId());
+        }
+
+        // 소유자나 팀이 바뀌면 검색 인덱스의 접근 범위도 갱신 (커밋 이후)
+        Integer previousTeamId = todoList.getTeam() != null ? todoList.getTeam().getId() : null;
+        if (previousUserId == null || previousUserId != user.getId()
+                || previousTeamId == null || previousTeamId != team.getId()) {
+            todoSearchIndex.reindexTodoList(listId);
+        }
+
         todoList.setName(reqDto.getName());
         todoList.setDescription(reqDto.getDescription());
         todoList.setUser(user);
@@ -73,7 +101,11 @@ public class TodoListService {
     public void deleteTodoList(Integer listId) {
         TodoList todoList = todoListRepository.findById(listId)
                 .orElseThrow(()-> new IllegalArgumentException("해당 todolist는 존재하지 않습니다."));
-        todoListRepository.delete(todoList);
+        Integer teamId = todoList.getTeam() != null ? todoList.getTeam().getId() : null;
+
+        // 하위 할일/라벨/리마인더/담당자까지 일괄 삭제
+        teamCascadeDeleteService.deleteTodoList(listId);
+        teamStatsCounterService.evict(teamId);
     }
 
     public List<TodoListResponseDto> getUserTodoList(Integer userId) {
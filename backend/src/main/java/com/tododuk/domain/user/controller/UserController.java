@@ -162,6 +162,26 @@ public class UserController {
         );
     }
 
+    // apiKey 재발급 (기존 키로는 더 이상 인증되지 않음)
+    @PostMapping("/me/api-key")
+    @Transactional
+    public RsData<Void> rotateApiKey() {
+        User actor = rq.getActor();
+        if (actor == null) {
+            throw new ServiceException("401-1", "로그인이 필요합니다.");
+        }
+
+        User user = userService.findById(actor.getId())
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 사용자입니다."));
+
+        rq.setCookie("apiKey", userService.rotateApiKey(user));
+
+        return new RsData<>(
+                "200-1",
+                "apiKey 재발급 성공"
+        );
+    }
+
     @PostMapping("/profile-image")
     public RsData<Map<String, String>> uploadProfileImage(
             @RequestParam("profileImage") MultipartFile file
@@ -215,6 +235,9 @@ public class UserController {
             session.invalidate();
         }
 
+        // 인증 캐시에서 제거
+        userService.evictApiKey(rq.getCookieValue("apiKey", ""));
+
         // 쿠키 삭제
         rq.deleteCookie("apiKey");
         rq.deleteCookie("accessToken");  // 이것도 있다면
@@ -60,6 +60,11 @@ public class User extends BaseEntity {
         this.userEmail = userEmail;
     }
 
+    // apiKey 재발급 (기존 키는 더 이상 인증되지 않음)
+    public void rotateApiKey() {
+        this.apiKey = UUID.randomUUID().toString();
+    }
+
     public void updateUserInfo(String nickName, String profileImgUrl) {
         this.nickName = nickName;
         this.profileImgUrl = profileImgUrl;
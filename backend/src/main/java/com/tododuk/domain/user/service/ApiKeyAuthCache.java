@@ -0,0 +1,67 @@
+package com.tododuk.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tododuk.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// apiKey -> 인증 사용자 정보 캐시 (프로세스 로컬, TTL + 최대 개수 제한)
+// 액세스 토큰 없이 apiKey 쿠키로만 인증하는 요청이 매번 DB를 조회하지 않도록 한다.
+// 로그아웃/키 교체/사용자 삭제 시 evict로 제거하고, 다른 서버의 변경은 TTL 안에 반영된다.
+// 적중률은 cache.gets{cache=apiKeyAuth, result=hit|miss} 지표로 확인
+@Component
+public class ApiKeyAuthCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Principal> cache;
+
+    public ApiKeyAuthCache(
+            UserRepository userRepository,
+            @Value("${custom.apiKeyCache.ttlSeconds:300}") long ttlSeconds,
+            @Value("${custom.apiKeyCache.maxSize:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "apiKeyAuth");
+    }
+
+    // 없는 apiKey는 캐시하지 않음
+    public Optional<Principal> get(String apiKey) {
+        return Optional.ofNullable(cache.get(apiKey, key -> userRepository.findByApiKey(key)
+                .map(user -> new Principal(user.getId(), user.getUserEmail(), user.isAdmin()))
+                .orElse(null)));
+    }
+
+    // 바로 제거하고, 트랜잭션 중이면 커밋 직후 한 번 더 제거 (커밋 전 다른 요청이 다시 채운 경우 대비)
+    public void evict(String apiKey) {
+        if (apiKey == null || apiKey.isBlank()) {
+            return;
+        }
+
+        cache.invalidate(apiKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(apiKey);
+                }
+            });
+        }
+    }
+
+    public record Principal(int id, String email, boolean admin) {
+    }
+}
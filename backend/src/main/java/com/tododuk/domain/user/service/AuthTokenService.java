@@ -1,28 +1,71 @@
 package com.tododuk.domain.user.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.tododuk.domain.user.entity.User;
 import com.tododuk.standard.util.Ut;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import javax.crypto.SecretKey;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class AuthTokenService {
+
+    private final int accessTokenExpirationSeconds;
+    // 서명 키와 파서는 한 번만 만들어 재사용 (스레드 안전)
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    // 검증된 토큰 -> 페이로드 캐시 (토큰 만료 시각에 맞춰 제거, 검증 실패한 토큰은 넣지 않음)
+    private final Cache<String, AccessTokenPayload> payloadCache;
+
     //yml 파일에서 설정값을 불러옴
-    @Value("${custom.jwt.secretKey}")
-    private String jwtSecretKey;
+    public AuthTokenService(
+            @Value("${custom.jwt.secretKey}") String jwtSecretKey,
+            @Value("${custom.accessToken.expirationSeconds}") int accessTokenExpirationSeconds,
+            @Value("${custom.accessToken.cacheMaxSize:10000}") long cacheMaxSize
+    ) {
+        this.accessTokenExpirationSeconds = accessTokenExpirationSeconds;
+        this.secretKey = Keys.hmacShaKeyFor(jwtSecretKey.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.payloadCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, AccessTokenPayload>() {
+                    @Override
+                    public long expireAfterCreate(String token, AccessTokenPayload payload, long currentTime) {
+                        long remainingMs = payload.expiresAtMs() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, AccessTokenPayload payload, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, AccessTokenPayload payload, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
-    @Value("${custom.accessToken.expirationSeconds}")
-    private int accessTokenExpirationSeconds;
     //액세스 토큰 생성
     public String genAccessToken(User user) {
         long id = user.getId();
         String email = user.getUserEmail();
 
         return Ut.jwt.toString(
-                jwtSecretKey,
+                secretKey,
                 accessTokenExpirationSeconds,
                 Map.of("id", id, "email", email)
         );
@@ -30,16 +73,32 @@ public class AuthTokenService {
 
     // 액세스 토큰에서 페이로드 추출
     public Map<String, Object> payload(String accessToken) {
-        Map<String, Object> parsePayload = Ut.jwt.payload(jwtSecretKey, accessToken);
+        AccessTokenPayload payload = payloadCache.getIfPresent(accessToken);
 
-        if (parsePayload == null) {
+        if (payload == null) {
+            payload = verify(accessToken);
+            if (payload == null) {
+                return null;
+            }
+            payloadCache.put(accessToken, payload);
+        }
+
+        return Map.of("id", payload.id(), "email", payload.email());
+    }
+
+    private AccessTokenPayload verify(String accessToken) {
+        Claims claims = Ut.jwt.claims(jwtParser, accessToken);
+
+        if (claims == null || claims.getExpiration() == null) {
             return null;
         }
 
-        long id = (long) (Integer) parsePayload.get("id");
-        String email = (String) parsePayload.get("email");
+        long id = (long) (Integer) claims.get("id");
+        String email = (String) claims.get("email");
 
-        return Map.of("id", id, "email", email);
+        return new AccessTokenPayload(id, email, claims.getExpiration().getTime());
     }
 
+    private record AccessTokenPayload(long id, String email, long expiresAtMs) {
+    }
 }
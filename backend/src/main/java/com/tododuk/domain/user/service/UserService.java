@@ -23,6 +23,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final AuthTokenService authTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final ApiKeyAuthCache apiKeyAuthCache;
 
     public Optional<User> findById(int id) {
         return userRepository.findById(id);
@@ -48,6 +49,23 @@ public class UserService {
         return userRepository.findByApiKey(apiKey);
     }
 
+    // 인증 필터용 apiKey 조회 (캐시 사용)
+    public Optional<ApiKeyAuthCache.Principal> findPrincipalByApiKey(String apiKey) {
+        return apiKeyAuthCache.get(apiKey);
+    }
+
+    // apiKey 재발급 후 새 키 반환
+    public String rotateApiKey(User user) {
+        String oldApiKey = user.getApiKey();
+        user.rotateApiKey();
+        apiKeyAuthCache.evict(oldApiKey);
+        return user.getApiKey();
+    }
+
+    public void evictApiKey(String apiKey) {
+        apiKeyAuthCache.evict(apiKey);
+    }
+
     public void updateUserInfo(User user, UserDto reqBody) {
         user.updateUserInfo(
                 reqBody.nickname(),
@@ -11,14 +11,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @MappedSuperclass // 엔티티의 부모 클래스에는 이걸 달아야 한다.
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 public class BaseEntity {
+    // 엔티티별 시퀀스({엔티티}_seq, 50개씩 pooled 할당). 시퀀스가 없는 DB(MySQL)는 테이블로 대체된다.
+    // IDENTITY와 달리 INSERT 전에 ID를 알 수 있어 hibernate.jdbc.batch_size 배치 INSERT가 동작한다.
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE)
     protected int id;
 
     @CreatedDate
@@ -0,0 +1,25 @@
+package com.tododuk.global.entity;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+// JPA를 거치지 않고 JDBC로 직접 INSERT할 때 Hibernate와 같은 pooled 시퀀스에서 ID를 발급 (트랜잭션 안에서 호출)
+@Component
+@RequiredArgsConstructor
+public class EntityIdAllocator {
+
+    private final EntityManager entityManager;
+
+    public int nextId(Class<? extends BaseEntity> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+
+        return ((Number) generator.generate(session, null)).intValue();
+    }
+}
@@ -20,6 +20,7 @@ import com.tododuk.domain.todoList.repository.TodoListRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +29,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 @Transactional
 @Configuration
+@DependsOn("idSequenceAligner")
 public class BaseInitData {
 
     private final LabelService labelService;
@@ -0,0 +1,74 @@
+package com.tododuk.global.initData;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// IDENTITY로 쌓인 기존 데이터가 있는 DB를 시퀀스 방식으로 옮길 때, 엔티티별 시퀀스를 max(id) 뒤로 맞춰 ID 충돌을 막는다.
+// pooled 할당은 시퀀스 값 이하의 (증가폭)개 ID를 쓰므로 max(id) + 증가폭 + 1 이상이면 안전하다. 값을 앞으로만 옮긴다.
+// 초기 데이터 입력보다 먼저 실행되어야 하므로 init 클래스들이 @DependsOn으로 이 빈을 참조한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAligner {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        boolean h2 = sessionFactory.getJdbcServices().getDialect().getClass().getSimpleName().startsWith("H2");
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entityPersister)) {
+                return;
+            }
+
+            DatabaseStructure structure = generator.getDatabaseStructure();
+            String sequenceName = structure.getPhysicalName().render();
+
+            try {
+                Long maxId = jdbcTemplate.queryForObject(
+                        "SELECT MAX(" + entityPersister.getIdentifierColumnNames()[0] + ") FROM " + entityPersister.getTableName(),
+                        Long.class);
+                if (maxId == null) {
+                    return;
+                }
+
+                long target = maxId + structure.getIncrementSize() + 1;
+
+                if (!structure.isPhysicalSequence()) {
+                    // 테이블 대체 방식 (MySQL)
+                    int updated = jdbcTemplate.update(
+                            "UPDATE " + sequenceName + " SET next_val = ? WHERE next_val < ?", target, target);
+                    if (updated > 0) {
+                        log.info("ID 시퀀스 테이블 조정: {} -> {}", sequenceName, target);
+                    }
+                } else if (h2) {
+                    List<Long> current = jdbcTemplate.queryForList(
+                            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                            Long.class, sequenceName);
+                    if (!current.isEmpty() && current.get(0) < target) {
+                        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + target);
+                        log.info("ID 시퀀스 조정: {} -> {}", sequenceName, target);
+                    }
+                } else {
+                    log.warn("ID 시퀀스 자동 조정을 지원하지 않는 DB입니다. 필요하면 {}를 {} 이상으로 수동 조정하세요.", sequenceName, target);
+                }
+            } catch (RuntimeException e) {
+                log.warn("ID 시퀀스 조정 실패: {}", sequenceName, e);
+            }
+        });
+    }
+}
@@ -3,11 +3,13 @@ package com.tododuk.global.initData;
 import com.tododuk.domain.label.service.LabelService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
+@DependsOn("idSequenceAligner")
 public class LabelInitData {
 
     private final LabelService labelService;
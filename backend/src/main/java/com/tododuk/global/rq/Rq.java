@@ -2,6 +2,7 @@ package com.tododuk.global.rq;
 
 import com.tododuk.domain.user.entity.User;
 import com.tododuk.domain.user.service.UserService;
+import com.tododuk.global.security.Actor;
 import com.tododuk.global.security.SecurityUser;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,20 +22,36 @@ public class Rq {
     private final HttpServletRequest req;
     private final HttpServletResponse resp;
 
+    private static final String ACTOR_ATTRIBUTE = Rq.class.getName() + ".actor";
+
     //Spring Security에서 현재 인증된 사용자(Principal) 를 꺼내서,
     //User 엔티티 객체로 복원
     public User getActor() {
-        return Optional.ofNullable(
+        Actor actor = getCurrentActor();
+        return actor == null ? null : new User(actor.id(), actor.email());
+    }
+
+    // 현재 요청의 인증 사용자 (요청당 한 번만 만들어 request attribute에 보관, 미인증이면 null)
+    public Actor getCurrentActor() {
+        Object cached = req.getAttribute(ACTOR_ATTRIBUTE);
+        if (cached instanceof Actor actor) {
+            return actor;
+        }
+
+        Actor actor = Optional.ofNullable(
                         SecurityContextHolder
                                 .getContext()
                                 .getAuthentication()
                 )
                 .map(Authentication::getPrincipal)
                 .filter(principal -> principal instanceof SecurityUser)
-                .map(principal -> (SecurityUser) principal)
-                .map(securityUser -> new User(
-                        securityUser.getId(), securityUser.getEmail()))
+                .map(principal -> Actor.from((SecurityUser) principal))
                 .orElse(null);
+
+        if (actor != null) {
+            req.setAttribute(ACTOR_ATTRIBUTE, actor);
+        }
+        return actor;
     }
 
     public String getHeader(String name, String defaultValue) {
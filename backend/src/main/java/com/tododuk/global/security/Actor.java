@@ -0,0 +1,28 @@
+package com.tododuk.global.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 현재 요청의 인증 사용자 (토큰/apiKey에서 확인한 값만 담고 User 엔티티는 만들지 않음)
+// 서비스에는 id만 넘기면 되므로 이메일로 사용자를 다시 조회할 필요가 없다.
+public record Actor(
+        int id,
+        String email,
+        Set<String> roles
+) {
+    public static Actor from(SecurityUser securityUser) {
+        return new Actor(
+                securityUser.getId(),
+                securityUser.getEmail(),
+                securityUser.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toUnmodifiableSet())
+        );
+    }
+
+    public boolean isAdmin() {
+        return roles.contains("ROLE_ADMIN");
+    }
+}
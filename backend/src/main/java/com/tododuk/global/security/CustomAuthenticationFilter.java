@@ -2,6 +2,7 @@ package com.tododuk.global.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tododuk.domain.user.entity.User;
+import com.tododuk.domain.user.service.ApiKeyAuthCache;
 import com.tododuk.domain.user.service.UserService;
 import com.tododuk.global.exception.ServiceException;
 import com.tododuk.global.rq.Rq;
@@ -20,11 +21,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +37,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     private final Rq rq;
     private  final UserService userService;
     private final ObjectMapper objectMapper;
+    private final PermitAllPathMatcher permitAllPathMatcher;
 
     //커스텀 인증 필터 (액션 메서드 실행 전 작동)
     @Override
@@ -47,8 +47,8 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
         String path = request.getRequestURI();
 
-        // PERMIT_ALL_PATHS 경로면 인증 로직 건너뛰기
-        if (isPermitAllPath(path)) {
+        // 공개 경로면 인증 로직 건너뛰기
+        if (permitAllPathMatcher.matches(path)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -69,12 +69,6 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
-    // 인증, 인가가 필요 없는 경로인지 확인
-    private boolean isPermitAllPath(String path) {
-        return Arrays.stream(SecurityConfig.PERMIT_ALL_PATHS)
-                .anyMatch(pattern -> new AntPathMatcher().match(pattern, path));
-    }
-
     private void work(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException{
         //api요청이 아니면 패스
         if (!request.getRequestURI().startsWith("/api/")){
@@ -82,11 +76,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 인증,인가가 필요 없는 요청이면 패스
-        if (isPermitAllPath(request.getRequestURI())) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        // 공개 경로는 doFilterInternal에서 이미 걸러짐
 
         // 인증, 인가가 필요한 요청인 경우
         String apiKey;
@@ -121,6 +111,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
         //조회 시도
         User user = null;
+        boolean isAdmin = false;
         boolean isAccessTokenValid = false;
 
         if (isAccessTokenExists) {
@@ -137,9 +128,12 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         }
 
         if (user == null) {
-            user = userService
-                    .findByApiKey(apiKey)
+            // apiKey 인증 정보는 캐시에서 조회
+            ApiKeyAuthCache.Principal principal = userService
+                    .findPrincipalByApiKey(apiKey)
                     .orElseThrow(() -> new ServiceException("404-2","존재하지 않는 Api키 입니다."));
+            user = new User(principal.id(), principal.email());
+            isAdmin = principal.admin();
         }
 
         if (isAccessTokenExists && !isAccessTokenValid) {
@@ -149,7 +143,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             rq.setHeader("Authorization", actorAccessToken);
         }
         // isAdmin 이면 관리자 권한 부여
-        Collection<? extends GrantedAuthority> authorities = user.isAdmin() ?
+        Collection<? extends GrantedAuthority> authorities = isAdmin ?
                 List.of(new SimpleGrantedAuthority("ROLE_ADMIN")) : List.of();
 
         // 스프링 시큐리티에 사용자 정보를 담아 인증 객체 생성
@@ -0,0 +1,50 @@
+package com.tododuk.global.security;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 공개 경로 판별 (시작 시 한 번만 구성)
+// 와일드카드가 없는 경로는 해시 조회로 끝내고, 패턴은 미리 파싱한 PathPattern으로만 비교한다.
+@Component
+public class PermitAllPathMatcher {
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final PathPattern[] patterns;
+
+    public PermitAllPathMatcher(PermitAllProperties permitAllProperties) {
+        List<PathPattern> parsed = new ArrayList<>();
+        for (String path : permitAllProperties.permitAllPaths()) {
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(path);
+            if (pattern.hasPatternSyntax()) {
+                parsed.add(pattern);
+            } else {
+                exactPaths.add(path);
+            }
+        }
+        this.patterns = parsed.toArray(PathPattern[]::new);
+    }
+
+    public boolean matches(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (patterns.length == 0) {
+            return false;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
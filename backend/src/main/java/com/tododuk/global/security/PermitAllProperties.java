@@ -0,0 +1,16 @@
+package com.tododuk.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+// 인증/인가 없이 접근 가능한 경로 목록 (custom.security.permitAllPaths)
+// 새 공개 API는 코드 수정 없이 설정에 경로(또는 /** 같은 패턴)만 추가하면 된다.
+@ConfigurationProperties(prefix = "custom.security")
+public record PermitAllProperties(
+        List<String> permitAllPaths
+) {
+    public PermitAllProperties {
+        permitAllPaths = permitAllPaths == null ? List.of() : List.copyOf(permitAllPaths);
+    }
+}
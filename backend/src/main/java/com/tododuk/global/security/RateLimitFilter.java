@@ -0,0 +1,126 @@
+package com.tododuk.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tododuk.global.rsData.RsData;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 요청 제한 필터 (CustomAuthenticationFilter 다음에 실행)
+// 인증된 요청은 사용자 id, 그 외에는 IP 기준으로 경로 규칙마다 토큰 버킷을 둔다.
+// 버킷은 다음 요청 허용 시각 하나(AtomicLong)를 CAS로 갱신하는 방식(GCRA)이라 락 없이 동작한다.
+// 서블릿 필터로 자동 등록되면 인증 전에 실행되므로 빈으로 만들지 않고 SecurityConfig에서 직접 생성한다.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+    private static final long MAX_BUCKETS = 100_000;
+
+    private final ObjectMapper objectMapper;
+    private final PathPattern[] patterns;
+    private final long[] intervalNanos;
+    private final long[] burstNanos;
+    // (규칙 번호 + 사용자/IP) -> 다음 요청 허용 기준 시각 (오래 안 쓰인 버킷은 제거)
+    private final Cache<String, AtomicLong> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .maximumSize(MAX_BUCKETS)
+            .build();
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        List<RateLimitProperties.Rule> rules = rateLimitProperties.enabled() ? rateLimitProperties.rules() : List.of();
+        this.patterns = new PathPattern[rules.size()];
+        this.intervalNanos = new long[rules.size()];
+        this.burstNanos = new long[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            patterns[i] = PathPatternParser.defaultInstance.parse(rule.pattern());
+            intervalNanos[i] = (long) (TimeUnit.SECONDS.toNanos(1) / rule.refillPerSecond());
+            burstNanos[i] = intervalNanos[i] * rule.capacity();
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        int rule = findRule(request.getRequestURI());
+        if (rule < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AtomicLong bucket = buckets.get(rule + ":" + clientKey(request), key -> new AtomicLong(Long.MIN_VALUE));
+        long waitNanos = acquire(bucket, intervalNanos[rule], burstNanos[rule]);
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 허용되면 0, 아니면 다시 시도할 수 있을 때까지 남은 시간(ns)
+    private long acquire(AtomicLong bucket, long interval, long burst) {
+        while (true) {
+            long now = System.nanoTime();
+            long allowAt = bucket.get();
+            long next = Math.max(allowAt, now) + interval;
+            if (next - now > burst) {
+                return next - now - burst;
+            }
+            if (bucket.compareAndSet(allowAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private int findRule(String path) {
+        if (patterns.length == 0) {
+            return -1;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].matches(pathContainer)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return "user:" + securityUser.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        RsData<Void> rsData = new RsData<>("429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+        response.setStatus(rsData.statusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(rsData));
+    }
+}
@@ -0,0 +1,24 @@
+package com.tododuk.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+// 경로 패턴별 요청 제한 (custom.rateLimit)
+// capacity: 한 번에 몰아서 보낼 수 있는 요청 수, refillPerSecond: 초당 채워지는 요청 수
+@ConfigurationProperties(prefix = "custom.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        List<Rule> rules
+) {
+    public RateLimitProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    public record Rule(
+            String pattern,
+            int capacity,
+            double refillPerSecond
+    ) {
+    }
+}
@@ -1,7 +1,10 @@
 package com.tododuk.global.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,15 +23,13 @@ import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({PermitAllProperties.class, RateLimitProperties.class})
 public class SecurityConfig {
     private final CustomAuthenticationFilter customAuthenticationFilter;
-
-    //인증 인가 필요 없는 API 경로 목록
-    public static final String[] PERMIT_ALL_PATHS = {
-            "/api/v1/user/login",
-            "/api/v1/user/logout",
-            "/api/v1/user/register"
-    };
+    //인증 인가 필요 없는 API 경로 목록 (custom.security.permitAllPaths)
+    private final PermitAllProperties permitAllProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -52,12 +53,14 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(
                         auth -> auth
+                                // 스트리밍 응답 완료/에러 처리용 재디스패치는 최초 요청에서 이미 인증됨
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                                 //웹 아이콘 접근 허용
                                 .requestMatchers("/favicon.ico").permitAll()
                                 // H2 콘솔 접근 허용
                                 .requestMatchers("/h2-console/**").permitAll()
                                 // 접근 허용 목록들 허용 선언
-                                .requestMatchers(PERMIT_ALL_PATHS).permitAll()
+                                .requestMatchers(permitAllProperties.permitAllPaths().toArray(String[]::new)).permitAll()
                                 // 업로드된 파일 접근 허용
                                 .requestMatchers("/uploads/**").permitAll()
                                 // 위 요청 제외 나머지는 로그인 요구
@@ -76,6 +79,8 @@ public class SecurityConfig {
 
                 //Spring Security에서 인증/인가 실패 시 커스텀 JSON 응답 로직
                 .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증 이후 사용자(또는 IP)별 요청 제한
+                .addFilterAfter(new RateLimitFilter(rateLimitProperties, objectMapper), CustomAuthenticationFilter.class)
                 .exceptionHandling(
                         exceptionHandling -> exceptionHandling
                                 .authenticationEntryPoint(
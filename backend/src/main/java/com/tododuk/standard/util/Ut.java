@@ -2,17 +2,22 @@ package com.tododuk.standard.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
 import java.util.Date;
 import java.util.Map;
 
 public class Ut {
     public static class jwt {
         public static String toString(String secret, int expireSeconds, Map<String, Object> body) {
+            return toString(Keys.hmacShaKeyFor(secret.getBytes()), expireSeconds, body);
+        }
+
+        // 미리 만들어 둔 서명 키로 생성
+        public static String toString(SecretKey secretKey, int expireSeconds, Map<String, Object> body) {
             ClaimsBuilder claimsBuilder = Jwts.claims();
 
             for (Map.Entry<String, Object> entry : body.entrySet()) {
@@ -24,8 +29,6 @@ public class Ut {
             Date issuedAt = new Date();
             Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
 
-            Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
             String jwt = Jwts.builder()
                     .claims(claims)
                     .issuedAt(issuedAt)
@@ -63,5 +66,14 @@ public class Ut {
                 return null;
             }
         }
+
+        // 미리 만들어 둔 파서로 검증 후 클레임 추출 (실패 시 null)
+        public static Claims claims(JwtParser parser, String jwt) {
+            try {
+                return parser.parseSignedClaims(jwt).getPayload();
+            } catch (Exception e) {
+                return null;
+            }
+        }
     }
 }
@@ -0,0 +1,152 @@
+package com.tododuk.domain.reminder.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 칸 10ms, 4칸, 3단계 -> 단계별 한 칸 10 / 40 / 160ms, 0단계 범위 40ms, 1단계 범위 160ms
+class TimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 4;
+    private static final int LEVELS = 3;
+
+    private final TimingWheel wheel = new TimingWheel(TICK_MS, WHEEL_SIZE, LEVELS, 0);
+
+    @Test
+    @DisplayName("현재 칸에 해당하는 항목은 넣지 않고 false를 반환한다")
+    void addInCurrentTick() {
+        assertThat(wheel.add(1, 0)).isFalse();
+        assertThat(wheel.add(2, 9)).isFalse();
+        assertThat(wheel.add(3, -100)).isFalse();
+        assertThat(wheel.size()).isZero();
+
+        assertThat(wheel.add(4, 10)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 칸이 지나야 만료되고, 발송 시각이 속한 칸에서 만료된다")
+    void expiresOnItsTick() {
+        wheel.add(1, 10);
+        wheel.add(2, 25);
+
+        assertThat(advance(9)).isEmpty();
+        assertThat(advance(10)).containsExactly(1);
+        assertThat(advance(19)).isEmpty();
+        assertThat(advance(20)).containsExactly(2);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연이 단계 범위와 정확히 같으면 상위 단계에 들어가고 제시각에 만료된다")
+    void exactLevelBoundaries() {
+        // 지연 40 = 0단계 범위 -> 1단계, 지연 160 = 1단계 범위 -> 2단계
+        wheel.add(1, 40);
+        wheel.add(2, 160);
+
+        assertThat(advance(39)).isEmpty();
+        assertThat(advance(40)).containsExactly(1);
+        assertThat(advance(159)).isEmpty();
+        assertThat(advance(160)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("현재 칸보다 앞 번호로 돌아간 칸은 다음 바퀴에 만료된다")
+    void wrapsAroundToEarlierSlot() {
+        advance(30);
+        // 현재 0단계 3번 칸, 60은 2번 칸(한 바퀴 돌아서)
+        wheel.add(1, 60);
+
+        assertThat(advance(50)).isEmpty();
+        assertThat(advance(60)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("방금 비운 상위 단계 칸에 다시 들어간 항목은 다음 바퀴에 내려온다")
+    void wrapsAroundToJustDrainedSlot() {
+        // 40에 1단계 1번 칸을 비운 직후, 200도 같은 번호 칸(2단계 1번)으로 들어감
+        wheel.add(1, 40);
+        assertThat(advance(40)).containsExactly(1);
+
+        wheel.add(2, 200);
+        assertThat(advance(199)).isEmpty();
+        assertThat(advance(200)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("2단계 -> 1단계 -> 0단계로 내려오면서 크기는 유지되고 제시각에 만료된다")
+    void cascadesThroughLevels() {
+        // 230: 2단계 1번 칸 -> 160에 1단계 1번 칸 -> 200에 0단계 3번 칸 -> 230에 만료
+        wheel.add(1, 230);
+
+        assertThat(advance(160)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(200)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(229)).isEmpty();
+        assertThat(advance(230)).containsExactly(1);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최상위 단계 범위를 넘는 항목도 다시 배치되어 제시각에 만료된다")
+    void beyondTopLevelRange() {
+        // 2단계 범위는 640ms, 2000은 640/1280/1920에 다시 배치된 뒤 만료
+        wheel.add(1, 2000);
+
+        assertThat(advance(1999)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(2000)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("여러 칸을 한 번에 진행하면 만료 순서대로 모두 넘긴다")
+    void advanceOverGap() {
+        wheel.add(4, 700);
+        wheel.add(3, 230);
+        wheel.add(2, 50);
+        wheel.add(1, 10);
+
+        List<Long> fireAts = new ArrayList<>();
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(1000, (reminderId, fireAtMs) -> {
+            expired.add(reminderId);
+            fireAts.add(fireAtMs);
+        });
+
+        assertThat(expired).containsExactly(1, 2, 3, 4);
+        assertThat(fireAts).containsExactly(10L, 50L, 230L, 700L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("size는 추가/만료만 반영한다")
+    void sizeBookkeeping() {
+        wheel.add(1, 10);
+        wheel.add(2, 10);
+        wheel.add(3, 100);
+        wheel.add(4, 5);
+        assertThat(wheel.size()).isEqualTo(3);
+
+        assertThat(advance(10)).containsExactlyInAnyOrder(1, 2);
+        assertThat(wheel.size()).isEqualTo(1);
+
+        // 80에 1단계 -> 0단계로 내려와도 크기는 그대로
+        assertThat(advance(80)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(advance(100)).containsExactly(3);
+        assertThat(wheel.size()).isZero();
+    }
+
+    private List<Integer> advance(long nowMs) {
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(nowMs, (reminderId, fireAtMs) -> expired.add(reminderId));
+        return expired;
+    }
+}
@@ -54,11 +54,11 @@ public class TeamTestInitData {
      */
     @Transactional
     public Team createTeam(String teamName, String description) {
-        return teamRepository.save(Team.builder()
-                .teamName(teamName)
-                .description(description)
-                // createDate와 modifyDate는 BaseEntity에서 자동으로 관리되므로 여기서는 설정하지 않음
-                .build());
+        Team team = new Team();
+        team.setTeamName(teamName);
+        team.setDescription(description);
+        // createDate와 modifyDate는 BaseEntity에서 자동으로 관리되므로 여기서는 설정하지 않음
+        return teamRepository.save(team);
     }
 
     /**
@@ -0,0 +1,69 @@
+package com.tododuk.domain.team.service;
+
+import com.tododuk.domain.team.constant.TeamRoleType;
+import com.tododuk.domain.team.dto.TeamResponseDto;
+import com.tododuk.domain.team.entity.Team;
+import com.tododuk.domain.team.initData.TeamTestInitData;
+import com.tododuk.domain.user.entity.User;
+import com.tododuk.global.rsData.RsData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TeamServiceTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamTestInitData teamTestInitData;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("내 팀 목록 조회 쿼리 수는 팀 수와 무관하다")
+    void getMyTeamsQueryCountIsConstant() {
+        long queriesForOneTeam = countMyTeamsQueries(1);
+        long queriesForTenTeams = countMyTeamsQueries(10);
+
+        assertThat(queriesForOneTeam).isLessThanOrEqualTo(2);
+        assertThat(queriesForTenTeams).isEqualTo(queriesForOneTeam);
+    }
+
+    private long countMyTeamsQueries(int teamCount) {
+        User user = teamTestInitData.createUser("user");
+        for (int i = 0; i < teamCount; i++) {
+            User otherUser = teamTestInitData.createUser("other");
+            Team team = teamTestInitData.createTeam("팀" + i, "설명" + i);
+            teamTestInitData.createTeamMember(user, team, TeamRoleType.LEADER);
+            teamTestInitData.createTeamMember(otherUser, team, TeamRoleType.MEMBER);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        RsData<List<TeamResponseDto>> result = teamService.getMyTeams(user.getId());
+
+        assertThat(result.data()).hasSize(teamCount);
+        assertThat(result.data()).allSatisfy(team -> assertThat(team.getMembers()).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,126 @@
+package com.tododuk.domain.todo.repository;
+
+import com.tododuk.domain.team.initData.TeamTestInitData;
+import com.tododuk.domain.todo.dto.TodoCursor;
+import com.tododuk.domain.todo.dto.TodoResponseDto;
+import com.tododuk.domain.todo.dto.TodoSortType;
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todoList.entity.TodoList;
+import com.tododuk.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+// 키셋 페이지를 크기별로 끝까지 넘겨 보고 빠지거나 겹치는 할일이 없는지 확인
+@SpringBootTest
+@Transactional
+class TodoRepositoryTest {
+
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final LocalDateTime DAY2 = DAY1.plusDays(1);
+    private static final LocalDateTime DAY3 = DAY1.plusDays(2);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TeamTestInitData teamTestInitData;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private TodoList todoList;
+
+    @BeforeEach
+    void setUp() {
+        user = teamTestInitData.createUser("cursor");
+        todoList = new TodoList("커서 목록", "설명", user, null);
+        entityManager.persist(todoList);
+    }
+
+    @Test
+    @DisplayName("마감일 순 페이지는 같은 마감일은 id 순, 마감일 없는 할일은 마지막에 id 순으로 이어진다")
+    void dueDatePagesAcrossNullBoundary() {
+        // id는 저장 순서대로 증가
+        int noDue1 = save(null);
+        int day2First = save(DAY2);
+        int day3 = save(DAY3);
+        int day1 = save(DAY1);
+        int day2Second = save(DAY2);
+        int noDue2 = save(null);
+        int day2Third = save(DAY2);
+
+        List<Integer> expected = List.of(day1, day2First, day2Second, day2Third, day3, noDue1, noDue2);
+
+        for (int size = 1; size <= expected.size() + 1; size++) {
+            assertThat(pageAll(null, todoList.getId(), TodoSortType.DUE_DATE, size)).as("size " + size).isEqualTo(expected);
+            assertThat(pageAll(user.getId(), null, TodoSortType.DUE_DATE, size)).as("user, size " + size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("생성일 순 페이지는 생성일이 같으면 id 역순으로 이어진다")
+    void createDatePagesThroughEqualKeys() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(save(DAY1));
+        }
+
+        // 모두 같은 생성일로 맞추고 가운데 하나만 더 늦게
+        entityManager.createQuery("UPDATE Todo t SET t.createDate = :createDate WHERE t.todoList.id = :todoListId")
+                .setParameter("createDate", DAY1)
+                .setParameter("todoListId", todoList.getId())
+                .executeUpdate();
+        int latest = ids.get(2);
+        entityManager.createQuery("UPDATE Todo t SET t.createDate = :createDate WHERE t.id = :id")
+                .setParameter("createDate", DAY2)
+                .setParameter("id", latest)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Integer> expected = new ArrayList<>();
+        expected.add(latest);
+        ids.reversed().stream().filter(id -> id != latest).forEach(expected::add);
+
+        for (int size = 1; size <= expected.size() + 1; size++) {
+            assertThat(pageAll(null, todoList.getId(), TodoSortType.CREATE_DATE, size)).as("size " + size).isEqualTo(expected);
+            assertThat(pageAll(user.getId(), null, TodoSortType.CREATE_DATE, size)).as("user, size " + size).isEqualTo(expected);
+        }
+    }
+
+    private int save(LocalDateTime dueDate) {
+        Todo todo = new Todo("할일", "설명", false);
+        todo.setDueDate(dueDate);
+        todo.setTodoList(todoList);
+        entityManager.persist(todo);
+        return todo.getId();
+    }
+
+    // 서비스와 같이 마지막 항목으로 커서를 만들어(인코딩/디코딩 포함) 빈 페이지가 나올 때까지 조회
+    private List<Integer> pageAll(Integer userId, Integer todoListId, TodoSortType sortType, int size) {
+        List<Integer> ids = new ArrayList<>();
+        TodoCursor cursor = null;
+        for (int pageCount = 0; pageCount < 100; pageCount++) {
+            List<TodoResponseDto> page = todoRepository.findPageAfter(userId, todoListId, sortType, cursor, size);
+            page.forEach(todo -> ids.add(todo.getId()));
+            if (page.size() < size) {
+                return ids;
+            }
+            cursor = TodoCursor.decode(TodoCursor.of(sortType, page.get(page.size() - 1)).encode(), sortType);
+        }
+        fail("페이지가 끝나지 않습니다. ids: " + ids);
+        return ids;
+    }
+}
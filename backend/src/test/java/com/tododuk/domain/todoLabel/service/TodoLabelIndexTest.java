@@ -0,0 +1,137 @@
+package com.tododuk.domain.todoLabel.service;
+
+import com.tododuk.domain.todoLabel.dto.TodoLabelIndexRow;
+import com.tododuk.domain.todoLabel.repository.TodoLabelRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 사용자 1: 할일 10(라벨 1, 2), 11(라벨 1), 12(라벨 2, 3), 13(라벨 없음)
+class TodoLabelIndexTest {
+
+    private static final int USER_ID = 1;
+
+    private final TodoLabelRepository todoLabelRepository = mock(TodoLabelRepository.class);
+    private final TodoLabelIndex todoLabelIndex = new TodoLabelIndex(todoLabelRepository);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("allOf는 AND, anyOf는 OR, noneOf는 NOT으로 조합된다")
+    void filterSemantics() {
+        when(todoLabelRepository.findLabelIndexRowsByUserId(USER_ID)).thenReturn(rows());
+
+        assertThat(filter(List.of(), List.of(), List.of())).containsExactly(10, 11, 12, 13);
+        assertThat(filter(List.of(1, 2), List.of(), List.of())).containsExactly(10);
+        assertThat(filter(List.of(), List.of(1, 3), List.of())).containsExactly(10, 11, 12);
+        assertThat(filter(List.of(), List.of(), List.of(2))).containsExactly(11, 13);
+        assertThat(filter(List.of(1), List.of(), List.of(2))).containsExactly(11);
+        assertThat(filter(List.of(2), List.of(1, 3), List.of(1))).containsExactly(12);
+        // 없는 라벨은 빈 집합
+        assertThat(filter(List.of(99), List.of(), List.of())).isEmpty();
+        assertThat(filter(List.of(), List.of(99), List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("라벨 추가/삭제는 커밋 이후에만 반영된다")
+    void appliesAfterCommit() {
+        when(todoLabelRepository.findLabelIndexRowsByUserId(USER_ID)).thenReturn(rows());
+        filter(List.of(), List.of(), List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        todoLabelIndex.addLabels(USER_ID, 13, List.of(3));
+        todoLabelIndex.removeLabels(USER_ID, 10, List.of(1));
+        assertThat(filter(List.of(3), List.of(), List.of())).containsExactly(12);
+        assertThat(filter(List.of(1), List.of(), List.of())).containsExactly(10, 11);
+
+        commit();
+
+        assertThat(filter(List.of(3), List.of(), List.of())).containsExactly(12, 13);
+        assertThat(filter(List.of(1), List.of(), List.of())).containsExactly(11);
+        verify(todoLabelRepository, times(1)).findLabelIndexRowsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 반영되지 않는다")
+    void ignoresRollback() {
+        when(todoLabelRepository.findLabelIndexRowsByUserId(USER_ID)).thenReturn(rows());
+        filter(List.of(), List.of(), List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        todoLabelIndex.addLabels(USER_ID, 13, List.of(3));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(filter(List.of(3), List.of(), List.of())).containsExactly(12);
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 도중 커밋된 변경이 있으면 다시 적재한다")
+    void reloadsWhenChangedDuringLoad() {
+        List<TodoLabelIndexRow> afterChange = new ArrayList<>(rows());
+        afterChange.add(new TodoLabelIndexRow(USER_ID, 13, 3));
+
+        // 첫 적재는 변경 전 상태를 읽는 사이에 변경이 커밋된 경우
+        when(todoLabelRepository.findLabelIndexRowsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    todoLabelIndex.addLabels(USER_ID, 13, List.of(3));
+                    return rows();
+                })
+                .thenReturn(afterChange);
+
+        assertThat(filter(List.of(3), List.of(), List.of())).containsExactly(12, 13);
+        verify(todoLabelRepository, times(2)).findLabelIndexRowsByUserId(USER_ID);
+
+        // 다시 적재한 인덱스가 보관됨
+        assertThat(filter(List.of(3), List.of(), List.of())).containsExactly(12, 13);
+        verify(todoLabelRepository, times(2)).findLabelIndexRowsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다음 조회 때 DB에서 다시 적재한다")
+    void reloadsAfterEvict() {
+        when(todoLabelRepository.findLabelIndexRowsByUserId(USER_ID)).thenReturn(rows());
+        filter(List.of(), List.of(), List.of());
+
+        todoLabelIndex.evict(USER_ID);
+        filter(List.of(), List.of(), List.of());
+
+        verify(todoLabelRepository, times(2)).findLabelIndexRowsByUserId(USER_ID);
+    }
+
+    private int[] filter(List<Integer> allOf, List<Integer> anyOf, List<Integer> noneOf) {
+        return todoLabelIndex.filter(USER_ID, allOf, anyOf, noneOf).toArray();
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static List<TodoLabelIndexRow> rows() {
+        return List.of(
+                new TodoLabelIndexRow(USER_ID, 10, 1),
+                new TodoLabelIndexRow(USER_ID, 10, 2),
+                new TodoLabelIndexRow(USER_ID, 11, 1),
+                new TodoLabelIndexRow(USER_ID, 12, 2),
+                new TodoLabelIndexRow(USER_ID, 12, 3),
+                new TodoLabelIndexRow(USER_ID, 13, null)
+        );
+    }
+}
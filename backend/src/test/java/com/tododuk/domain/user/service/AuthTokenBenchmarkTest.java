@@ -0,0 +1,77 @@
+package com.tododuk.domain.user.service;
+
+import com.tododuk.domain.user.entity.User;
+import com.tododuk.standard.util.Ut;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 액세스 토큰 검증: 요청마다 키/파서 생성(legacy) vs 파서 재사용(prebuiltParser) vs 검증 결과 캐시(cached)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthTokenBenchmarkTest {
+
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private AuthTokenService authTokenService;
+    private JwtParser jwtParser;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        authTokenService = new AuthTokenService(SECRET, 60 * 60, 10_000);
+        jwtParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build();
+        accessToken = authTokenService.genAccessToken(new User(1, "bench@test.com"));
+    }
+
+    @Benchmark
+    public Map<String, Object> legacy() {
+        return Ut.jwt.payload(SECRET, accessToken);
+    }
+
+    @Benchmark
+    public Object prebuiltParser() {
+        return Ut.jwt.claims(jwtParser, accessToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> cached() {
+        return authTokenService.payload(accessToken);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰 페이로드는 검증 결과와 같다")
+    void cachedPayloadMatchesVerified() {
+        setUp();
+
+        Map<String, Object> first = authTokenService.payload(accessToken);
+        Map<String, Object> second = authTokenService.payload(accessToken);
+
+        assertThat(first).containsEntry("id", 1L).containsEntry("email", "bench@test.com");
+        assertThat(second).isEqualTo(first);
+        assertThat(authTokenService.payload(accessToken + "x")).isNull();
+    }
+}
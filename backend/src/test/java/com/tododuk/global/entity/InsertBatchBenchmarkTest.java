@@ -0,0 +1,204 @@
+package com.tododuk.global.entity;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// TodoLabel / TodoAssignment INSERT 처리량(rows/s): IDENTITY(건별 INSERT) vs pooled SEQUENCE + jdbc 배치(50)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBatchBenchmarkTest {
+
+    private static final int ROWS = 1_000;
+    private static final List<String> ENTITY_NAMES = List.of(
+            "IdentityTodoLabel", "SequenceTodoLabel", "IdentityTodoAssignment", "SequenceTodoAssignment");
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 배치 설정, id 전략만 매핑(benchmark/insert-batch-orm.xml)에서 다르게 지정
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert_batch_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addResource("benchmark/insert-batch-orm.xml")
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 반복마다 테이블을 비워 행 수가 계속 늘어나는 영향 제거
+    @TearDown(Level.Iteration)
+    public void clearTables() {
+        sessionFactory.inTransaction(session ->
+                ENTITY_NAMES.forEach(name -> session.createMutationQuery("DELETE FROM " + name).executeUpdate()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void todoLabelIdentity() {
+        insert(IdentityTodoLabel::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void todoLabelSequence() {
+        insert(SequenceTodoLabel::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void todoAssignmentIdentity() {
+        insert(IdentityTodoAssignment::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void todoAssignmentSequence() {
+        insert(SequenceTodoAssignment::new);
+    }
+
+    private void insert(IntFunction<Object> factory) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(factory.apply(i));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("두 id 전략 모두 모든 행을 저장한다")
+    void insertsAllRows() {
+        setUp();
+        try {
+            todoLabelIdentity();
+            todoLabelSequence();
+            todoAssignmentIdentity();
+            todoAssignmentSequence();
+
+            try (Session session = sessionFactory.openSession()) {
+                for (String name : ENTITY_NAMES) {
+                    Long count = session.createSelectionQuery("SELECT COUNT(*) FROM " + name, Long.class).getSingleResult();
+                    assertThat(count).as(name).isEqualTo(ROWS);
+                }
+            }
+        } finally {
+            tearDown();
+        }
+    }
+
+    // TodoLabel과 같은 컬럼 (todo_id, label_id + 생성/수정 시각)
+    public static class IdentityTodoLabel {
+        Integer id;
+        int todoId;
+        int labelId;
+        LocalDateTime createDate = LocalDateTime.now();
+        LocalDateTime modifyDate = createDate;
+
+        public IdentityTodoLabel() {
+        }
+
+        IdentityTodoLabel(int i) {
+            this.todoId = i;
+            this.labelId = i % 10;
+        }
+    }
+
+    public static class SequenceTodoLabel {
+        Integer id;
+        int todoId;
+        int labelId;
+        LocalDateTime createDate = LocalDateTime.now();
+        LocalDateTime modifyDate = createDate;
+
+        public SequenceTodoLabel() {
+        }
+
+        SequenceTodoLabel(int i) {
+            this.todoId = i;
+            this.labelId = i % 10;
+        }
+    }
+
+    // TodoAssignment와 같은 컬럼 (todo_id, assigned_user_id, team_id, assigned_at, status + 생성/수정 시각)
+    public static class IdentityTodoAssignment {
+        Integer id;
+        int todoId;
+        int assignedUserId;
+        int teamId;
+        LocalDateTime assignedAt = LocalDateTime.now();
+        String status = "ACTIVE";
+        LocalDateTime createDate = assignedAt;
+        LocalDateTime modifyDate = assignedAt;
+
+        public IdentityTodoAssignment() {
+        }
+
+        IdentityTodoAssignment(int i) {
+            this.todoId = i;
+            this.assignedUserId = i % 20;
+            this.teamId = 1;
+        }
+    }
+
+    public static class SequenceTodoAssignment {
+        Integer id;
+        int todoId;
+        int assignedUserId;
+        int teamId;
+        LocalDateTime assignedAt = LocalDateTime.now();
+        String status = "ACTIVE";
+        LocalDateTime createDate = assignedAt;
+        LocalDateTime modifyDate = assignedAt;
+
+        public SequenceTodoAssignment() {
+        }
+
+        SequenceTodoAssignment(int i) {
+            this.todoId = i;
+            this.assignedUserId = i % 20;
+            this.teamId = 1;
+        }
+    }
+}
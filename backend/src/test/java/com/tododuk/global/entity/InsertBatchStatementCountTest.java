@@ -0,0 +1,115 @@
+package com.tododuk.global.entity;
+
+import com.tododuk.domain.label.entity.Label;
+import com.tododuk.domain.label.repository.LabelRepository;
+import com.tododuk.domain.team.constant.TeamRoleType;
+import com.tododuk.domain.team.entity.Team;
+import com.tododuk.domain.team.entity.TodoAssignment;
+import com.tododuk.domain.team.initData.TeamTestInitData;
+import com.tododuk.domain.todo.entity.Todo;
+import com.tododuk.domain.todoLabel.entity.TodoLabel;
+import com.tododuk.domain.todoList.entity.TodoList;
+import com.tododuk.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시퀀스 id에서 jdbc 배치가 실제로 켜지는지 확인 (배치 크기 1의 건별 INSERT보다 실행 문 수가 적어야 함)
+// IDENTITY 대비 처리량은 InsertBatchBenchmarkTest(./gradlew benchmark)에서 측정
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.org.hibernate.orm.jdbc.extract=INFO"
+})
+@Transactional
+class InsertBatchStatementCountTest {
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TeamTestInitData teamTestInitData;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Test
+    @DisplayName("TodoLabel은 배치 INSERT 시 실행 문 수가 줄어든다")
+    void todoLabelBatchInsert() {
+        Label firstLabel = labelRepository.save(new Label("배치1", "#000000"));
+        Label secondLabel = labelRepository.save(new Label("배치2", "#FFFFFF"));
+        List<Todo> todos = createTodos();
+
+        long unbatched = countStatements(1, todos, todo -> TodoLabel.builder().todo(todo).label(firstLabel).build());
+        long batched = countStatements(50, todos, todo -> TodoLabel.builder().todo(todo).label(secondLabel).build());
+
+        assertThat(batched).isLessThan(unbatched);
+    }
+
+    @Test
+    @DisplayName("TodoAssignment는 배치 INSERT 시 실행 문 수가 줄어든다")
+    void todoAssignmentBatchInsert() {
+        User user = teamTestInitData.createUser("batch");
+        Team team = teamTestInitData.createTeam("배치 팀", "설명");
+        teamTestInitData.createTeamMember(user, team, TeamRoleType.LEADER);
+        List<Todo> todos = createTodos();
+
+        long unbatched = countStatements(1, todos,
+                todo -> TodoAssignment.builder().todo(todo).assignedUser(user).team(team).build());
+        long batched = countStatements(50, todos,
+                todo -> TodoAssignment.builder().todo(todo).assignedUser(user).team(team).build());
+
+        assertThat(batched).isLessThan(unbatched);
+    }
+
+    private List<Todo> createTodos() {
+        TodoList todoList = new TodoList("배치 목록", "설명", null, null);
+        entityManager.persist(todoList);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Todo todo = new Todo("할일 " + i, "설명", false);
+            todo.setTodoList(todoList);
+            entityManager.persist(todo);
+            todos.add(todo);
+        }
+        entityManager.flush();
+        return todos;
+    }
+
+    // 주어진 배치 크기로 저장하고 실행된 PreparedStatement 수를 반환
+    private long countStatements(int batchSize, List<Todo> todos, Function<Todo, Object> factory) {
+        Session session = entityManager.unwrap(Session.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+
+        for (Todo todo : todos) {
+            entityManager.persist(factory.apply(todo));
+        }
+        entityManager.flush();
+
+        session.setJdbcBatchSize(null);
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,85 @@
+package com.tododuk.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공개 경로 판별: 요청마다 AntPathMatcher 생성해 두 번 순회(legacy) vs 미리 구성한 매처 한 번(precompiled)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PermitAllPathMatcherBenchmarkTest {
+
+    private static final List<String> PERMIT_ALL_PATHS = List.of(
+            "/api/v1/user/login",
+            "/api/v1/user/logout",
+            "/api/v1/user/register",
+            "/api/v1/public/**"
+    );
+
+    // 공개 경로 / 인증 필요 경로가 섞인 요청
+    private static final String[] REQUEST_PATHS = {
+            "/api/v1/user/login",
+            "/api/todo/me/filter",
+            "/api/v1/notifications/me/unread-count",
+            "/api/v1/public/docs/intro",
+            "/api/labels"
+    };
+
+    private PermitAllPathMatcher permitAllPathMatcher;
+
+    @Setup
+    public void setUp() {
+        permitAllPathMatcher = new PermitAllPathMatcher(new PermitAllProperties(PERMIT_ALL_PATHS));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String path : REQUEST_PATHS) {
+            // 필터가 doFilterInternal, work에서 각각 한 번씩 확인
+            blackhole.consume(legacyMatches(path));
+            blackhole.consume(legacyMatches(path));
+        }
+    }
+
+    @Benchmark
+    public void precompiled(Blackhole blackhole) {
+        for (String path : REQUEST_PATHS) {
+            blackhole.consume(permitAllPathMatcher.matches(path));
+        }
+    }
+
+    private static boolean legacyMatches(String path) {
+        return PERMIT_ALL_PATHS.stream()
+                .anyMatch(pattern -> new AntPathMatcher().match(pattern, path));
+    }
+
+    @Test
+    @DisplayName("미리 구성한 매처는 기존 판별과 결과가 같다")
+    void matchesLikeLegacy() {
+        setUp();
+
+        for (String path : REQUEST_PATHS) {
+            assertThat(permitAllPathMatcher.matches(path)).isEqualTo(legacyMatches(path));
+        }
+    }
+}
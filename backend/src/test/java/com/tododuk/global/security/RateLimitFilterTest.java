@@ -0,0 +1,167 @@
+package com.tododuk.global.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 필터만 직접 생성해 검증 (스프링 컨텍스트 없이 규칙을 테스트마다 지정)
+class RateLimitFilterTest {
+
+    private static final String LIMITED_PATH = "/api/todo/1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("capacity만큼 연속 요청은 통과하고 그다음 요청은 429로 막힌다")
+    void burstCapacity() throws Exception {
+        RateLimitFilter filter = filter(3, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("막힌 뒤 refill 간격이 지나면 다시 통과한다")
+    void refill() throws Exception {
+        // 초당 20개 -> 50ms마다 하나씩 채워짐
+        RateLimitFilter filter = filter(1, 20);
+
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(429);
+
+        Thread.sleep(80);
+
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Retry-After는 남은 시간을 초 단위로 올림하고 최소 1초다")
+    void retryAfterRoundsUp() throws Exception {
+        // 2.5초마다 하나 -> 남은 시간 약 2.5초 -> 3초
+        RateLimitFilter slowFilter = filter(1, 0.4);
+        doFilter(slowFilter, LIMITED_PATH, "10.0.0.1");
+
+        MockHttpServletResponse slowRejected = doFilter(slowFilter, LIMITED_PATH, "10.0.0.1");
+        assertThat(slowRejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        // 50ms마다 하나 -> 1초 미만도 1초
+        RateLimitFilter fastFilter = filter(1, 20);
+        doFilter(fastFilter, LIMITED_PATH, "10.0.0.1");
+
+        MockHttpServletResponse fastRejected = doFilter(fastFilter, LIMITED_PATH, "10.0.0.1");
+        assertThat(fastRejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("막힌 요청은 다음 필터로 넘기지 않고 RsData 형식으로 응답한다")
+    void rejectedBody() throws Exception {
+        RateLimitFilter filter = filter(1, 1);
+        doFilter(filter, LIMITED_PATH, "10.0.0.1");
+
+        MockHttpServletRequest request = request(LIMITED_PATH, "10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        filter.doFilter(request, response, filterChain);
+
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(response.getContentType()).startsWith("application/json");
+
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertThat(body.get("resultCode").asText()).isEqualTo("429-1");
+        assertThat(body.get("msg").asText()).isEqualTo("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(body.has("statusCode")).isFalse();
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 IP별로 버킷을 따로 쓴다")
+    void anonymousKeyedByIp() throws Exception {
+        RateLimitFilter filter = filter(1, 1);
+
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("로그인 요청은 IP와 관계없이 사용자 id별로 버킷을 쓴다")
+    void authenticatedKeyedByUserId() throws Exception {
+        RateLimitFilter filter = filter(1, 1);
+
+        login(1);
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        // 같은 사용자가 다른 IP에서 요청해도 같은 버킷
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.2").getStatus()).isEqualTo(429);
+
+        // 같은 IP의 다른 사용자는 별도 버킷
+        login(2);
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+
+        // 같은 IP라도 비로그인 요청은 사용자 버킷과 별개
+        SecurityContextHolder.clearContext();
+        assertThat(doFilter(filter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 경로와 꺼진 설정은 제한하지 않는다")
+    void passesThroughWhenNotLimited() throws Exception {
+        RateLimitFilter filter = filter(1, 1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(doFilter(filter, "/api/v1/user/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+
+        RateLimitFilter disabledFilter = new RateLimitFilter(
+                new RateLimitProperties(false, List.of(new RateLimitProperties.Rule("/api/todo/**", 1, 1))),
+                objectMapper
+        );
+        for (int i = 0; i < 5; i++) {
+            assertThat(doFilter(disabledFilter, LIMITED_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private RateLimitFilter filter(int capacity, double refillPerSecond) {
+        return new RateLimitFilter(
+                new RateLimitProperties(true, List.of(new RateLimitProperties.Rule("/api/todo/**", capacity, refillPerSecond))),
+                objectMapper
+        );
+    }
+
+    private MockHttpServletResponse doFilter(RateLimitFilter filter, String path, String remoteAddr) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(path, remoteAddr), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private void login(int userId) {
+        SecurityUser securityUser = new SecurityUser(userId, "user" + userId + "@test.com", "", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(securityUser, null, securityUser.getAuthorities())
+        );
+    }
+}